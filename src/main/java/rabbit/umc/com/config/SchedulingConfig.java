@@ -0,0 +1,36 @@
+package rabbit.umc.com.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 스케줄러 스레드 설정
+ * taskScheduler : @Scheduled 배치 작업 (자정 rollover, 성공 평가, 새벽 정합성 작업 등)
+ * flushTaskScheduler : 좋아요/점수 쓰기 지연 버퍼 반영 전용, 오래 걸리는 배치 작업이 돌아도 반영이 밀리지 않도록 분리
+ */
+@Configuration
+public class SchedulingConfig {
+    public static final String FLUSH_TASK_SCHEDULER = "flushTaskScheduler";
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:4}") int poolSize) {
+        return scheduler(poolSize, "scheduled-");
+    }
+
+    @Bean(FLUSH_TASK_SCHEDULER)
+    public ThreadPoolTaskScheduler flushTaskScheduler(@Value("${scheduling.flush-pool-size:2}") int poolSize) {
+        return scheduler(poolSize, "flush-");
+    }
+
+    private ThreadPoolTaskScheduler scheduler(int poolSize, String threadNamePrefix) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        // 종료 시 진행 중인 반영은 끝까지 마침
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+}
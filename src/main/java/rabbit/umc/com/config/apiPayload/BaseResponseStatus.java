@@ -21,6 +21,7 @@ public enum BaseResponseStatus {
     INVALID_USER_JWT(false, "COMMON402","권한이 없는 유저의 접근입니다."),
     RESPONSE_ERROR(false, "COMMON404", "값을 불러오는데 실패하였습니다."),
     END_PAGE(false, "COMMON405", "마지막 페이지입니다."),
+    INVALID_CURSOR(false, "COMMON406", "잘못된 커서 값입니다."),
 
     //JWT
     EMPTY_JWT(false, "JWT4001", "JWT TOKEN 값이 존재하지 않습니다."),
@@ -57,6 +58,7 @@ public enum BaseResponseStatus {
     FAILED_TO_LIKE(false,"ARTICLE4002","이미 좋아요한 게시물입니다."),
     FAILED_TO_UNLIKE(false, "ARTICLE4003","좋아요 하지 않은 게시물입니다."),
     DONT_EXIST_ARTICLE(false,"ARTICLE4006","존재하지 않는 게시물입니다."),
+    EMPTY_SEARCH_KEYWORD(false, "ARTICLE4007", "검색어를 입력해주세요."),
 
     //comment
     FAILED_TO_LOCK(false, "COMMENT4001","이미 잠긴 댓글 입니다."),
@@ -13,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 import rabbit.umc.com.config.apiPayload.BaseException;
 import rabbit.umc.com.config.apiPayload.BaseResponse;
+import rabbit.umc.com.demo.community.dto.ArticleCommentListRes;
 import rabbit.umc.com.demo.community.dto.PostCommentReq;
 import rabbit.umc.com.utils.JwtService;
 
@@ -25,6 +26,32 @@ public class CommentController {
     private final CommentService commentService;
     private final JwtService jwtService;
 
+    /**
+     * 댓글 커서 페이징 조회 API
+     * @param articleId
+     * @param cursor 게시물 상세 조회 또는 이전 페이지 응답의 nextCursor
+     * @return
+     */
+    @Tag(name = "get comments")
+    @Operation(summary = "댓글 커서 페이징 조회 API")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200",description = "OK, 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON406", description = "잘못된 커서 값",content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+    })
+    @Parameters({
+            @Parameter(name = "articleId", description = "댓글을 조회할 게시글 id"),
+            @Parameter(name = "cursor", description = "이전 응답의 커서 값, 첫 페이지는 생략"),
+    })
+    @GetMapping("/{articleId}")
+    public BaseResponse<ArticleCommentListRes> getComments(@PathVariable("articleId") Long articleId, @RequestParam(required = false, name = "cursor") String cursor) {
+        try {
+            ArticleCommentListRes commentListRes = commentService.getComments(articleId, cursor);
+            return new BaseResponse<>(commentListRes);
+        }catch (BaseException exception){
+            return new BaseResponse<>(exception.getStatus());
+        }
+    }
+
     /**
      * 댓글 작성 API
      * @param postCommentReq
@@ -88,6 +115,34 @@ public class CommentController {
         }
     }
 
+    /**
+     * 댓글 신고 API
+     * @param commentsId
+     * @return
+     */
+    @Tag(name = "Report comment")
+    @Operation(summary = "댓글 신고 API")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200",description = "OK, 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "JWT4001", description = "JWT 토큰을 주세요!",content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "JWT4002", description = "JWT 토큰 만료",content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMENT4002", description = "존재하지 않는 댓글",content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "ARTICLE4001", description = "이미 신고한 댓글",content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+    })
+    @Parameters({
+            @Parameter(name = "commentsId", description = "신고할 댓글 id"),
+    })
+    @PostMapping("/{commentsId}/report")
+    public BaseResponse reportComment(@PathVariable("commentsId") Long commentsId) {
+        try {
+            Long userId = (long) jwtService.getUserIdx();
+            commentService.reportComment(userId, commentsId);
+            return new BaseResponse<>(commentsId + "번 댓글 신고 완료되었습니다");
+        }catch (BaseException exception){
+            return new BaseResponse<>(exception.getStatus());
+        }
+    }
+
     /**
      * 댓글 잠금 API
      * @param commentsId
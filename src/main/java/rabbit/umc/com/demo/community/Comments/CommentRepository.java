@@ -1,9 +1,14 @@
 package rabbit.umc.com.demo.community.Comments;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import rabbit.umc.com.demo.community.domain.Comment;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -11,5 +16,31 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     List<Comment> findAllByArticleId(Long id);
 
+    // 댓글 첫 페이지 (작성자 함께 조회)
+    @Query("SELECT c FROM Comment c " +
+            "JOIN FETCH c.user " +
+            "WHERE c.article.id = :articleId " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findFirstCommentsWithUser(@Param("articleId") Long articleId, Pageable pageable);
 
+    // 커서 (createdAt, id) 이후 댓글
+    @Query("SELECT c FROM Comment c " +
+            "JOIN FETCH c.user " +
+            "WHERE c.article.id = :articleId " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :commentId)) " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findNextCommentsWithUser(@Param("articleId") Long articleId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("commentId") Long commentId,
+                                           Pageable pageable);
+
+    // 신고 수 증가 + 기준 이상이면 비활성화
+    @Modifying
+    @Query(value = "UPDATE comments SET status = CASE WHEN report_count + 1 >= :limit THEN 'INACTIVE' ELSE status END, " +
+            "report_count = report_count + 1 WHERE comments_id = :commentId", nativeQuery = true)
+    int increaseReportCount(@Param("commentId") Long commentId, @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.article.id = :articleId")
+    int bulkDeleteByArticleId(@Param("articleId") Long articleId);
 }
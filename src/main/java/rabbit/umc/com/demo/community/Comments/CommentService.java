@@ -3,17 +3,28 @@ package rabbit.umc.com.demo.community.Comments;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import rabbit.umc.com.config.apiPayload.BaseException;
 import rabbit.umc.com.demo.community.article.ArticleRepository;
 import rabbit.umc.com.demo.community.domain.Article;
 import rabbit.umc.com.demo.community.domain.Comment;
+import rabbit.umc.com.demo.community.dto.ArticleCommentListRes;
 import rabbit.umc.com.demo.community.dto.PostCommentReq;
+import rabbit.umc.com.demo.converter.CommentConverter;
+import rabbit.umc.com.demo.converter.ReportConverter;
+import rabbit.umc.com.demo.report.ReportRepository;
+import rabbit.umc.com.demo.report.ReportService;
 import rabbit.umc.com.demo.user.Domain.User;
 import rabbit.umc.com.demo.user.repository.UserRepository;
+import rabbit.umc.com.utils.CursorUtil;
+import rabbit.umc.com.utils.CursorUtil.Cursor;
 
 import javax.persistence.EntityNotFoundException;
+import java.util.List;
 
 import static rabbit.umc.com.config.apiPayload.BaseResponseStatus.*;
 import static rabbit.umc.com.demo.base.Status.*;
@@ -24,11 +35,39 @@ import static rabbit.umc.com.demo.base.Status.*;
 @RequiredArgsConstructor
 @Slf4j
 public class CommentService {
+    private static final int COMMENT_PAGING_SIZE = 20;
 
     private final ArticleRepository articleRepository;
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
+    private final ReportRepository reportRepository;
+    private final ReportService reportService;
+    private final UserCommentedArticleRepository userCommentedArticleRepository;
+
+
+    /**
+     * 게시물 댓글 커서 페이징 조회 (작성순)
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지는 null
+     */
+    public ArticleCommentListRes getComments(Long articleId, String cursor) throws BaseException {
+        // 다음 페이지 존재 여부 확인을 위해 한 개 더 조회
+        PageRequest pageRequest = PageRequest.of(0, COMMENT_PAGING_SIZE + 1);
+        List<Comment> comments;
+        if (cursor == null || cursor.isBlank()) {
+            comments = commentRepository.findFirstCommentsWithUser(articleId, pageRequest);
+        } else {
+            Cursor decoded = CursorUtil.decode(cursor);
+            comments = commentRepository.findNextCommentsWithUser(articleId, decoded.getTime(), decoded.getId(), pageRequest);
+        }
 
+        String nextCursor = null;
+        if (comments.size() > COMMENT_PAGING_SIZE) {
+            comments = comments.subList(0, COMMENT_PAGING_SIZE);
+            Comment last = comments.get(COMMENT_PAGING_SIZE - 1);
+            nextCursor = CursorUtil.encode(last.getCreatedAt(), last.getId());
+        }
+        return CommentConverter.toArticleCommentListRes(comments, nextCursor);
+    }
 
     @Transactional
     public Long postComment(PostCommentReq postCommentReq, Long userId, Long articleId) throws BaseException{
@@ -45,7 +84,10 @@ public class CommentService {
                     .content(postCommentReq.getContent())
                     .build();
 
-            return commentRepository.save(comment).getId();
+            Long commentId = commentRepository.save(comment).getId();
+            articleRepository.increaseCommentCount(articleId);
+            userCommentedArticleRepository.upsertComment(userId, articleId, comment.getCreatedAt());
+            return commentId;
 
         }catch (NullPointerException e){
             throw new BaseException(DONT_EXIST_ARTICLE);
@@ -67,7 +109,11 @@ public class CommentService {
             }
 
             //댓글 삭제
+            Long articleId = findComment.getArticle().getId();
             commentRepository.delete(findComment);
+            articleRepository.decreaseCommentCount(articleId);
+            userCommentedArticleRepository.refreshAfterDelete(userId, articleId);
+            userCommentedArticleRepository.deleteIfNoComment(userId, articleId);
             return commentsId;
 
         }catch (EntityNotFoundException e){
@@ -75,6 +121,38 @@ public class CommentService {
         }
     }
 
+    /**
+     * 댓글단 글 목록 테이블이 비어 있으면 기존 댓글로 채움
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillCommentedArticles() {
+        if (userCommentedArticleRepository.count() == 0) {
+            int inserted = userCommentedArticleRepository.backfillFromComments();
+            log.info("댓글단 글 목록 초기 구성 완료: {}", inserted);
+        }
+    }
+
+    @Transactional
+    public void reportComment(Long userId, Long commentsId) throws BaseException {
+        try {
+            Comment comment = commentRepository.getReferenceById(commentsId);
+            //존재하는 댓글인지 체크
+            if (comment.getContent() == null) {
+                throw new EntityNotFoundException("Unable to find Comment with id: " + commentsId);
+            }
+            // 이미 신고한 댓글인지 체크
+            if (reportRepository.existsByUserIdAndCommentId(userId, commentsId)) {
+                throw new BaseException(FAILED_TO_REPORT);
+            }
+            User user = userRepository.getReferenceById(userId);
+            // 신고 횟수 15회 이상시 댓글 잠금 [ACTIVE -> INACTIVE]
+            reportService.reportComment(ReportConverter.toCommentReport(user, comment));
+        }catch (EntityNotFoundException e){
+            throw new BaseException(DONT_EXIST_COMMENT);
+        }
+    }
+
     @Transactional
     public void lockComment(Long userId, Long commentsId) throws BaseException {
         try {
@@ -0,0 +1,64 @@
+package rabbit.umc.com.demo.community.Comments;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import rabbit.umc.com.demo.base.Status;
+import rabbit.umc.com.demo.community.domain.mapping.UserCommentedArticle;
+
+@Repository
+public interface UserCommentedArticleRepository extends JpaRepository<UserCommentedArticle, Long> {
+
+    // 댓글 작성시 (user, article) row 생성 또는 갱신
+    @Modifying
+    @Query(value = "INSERT INTO user_commented_article (user_id, article_id, last_commented_at, comment_count, created_at, updated_at) " +
+            "VALUES (:userId, :articleId, :commentedAt, 1, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE last_commented_at = GREATEST(last_commented_at, VALUES(last_commented_at)), " +
+            "comment_count = comment_count + 1, updated_at = NOW()", nativeQuery = true)
+    int upsertComment(@Param("userId") Long userId, @Param("articleId") Long articleId, @Param("commentedAt") LocalDateTime commentedAt);
+
+    // 댓글 삭제시 남은 댓글 기준으로 마지막 작성 시간, 댓글 수 재계산
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE user_commented_article uca " +
+            "JOIN (SELECT MAX(created_at) AS last_at, COUNT(*) AS cnt FROM comments WHERE user_id = :userId AND article_id = :articleId) c " +
+            "SET uca.last_commented_at = c.last_at, uca.comment_count = c.cnt, uca.updated_at = NOW() " +
+            "WHERE uca.user_id = :userId AND uca.article_id = :articleId AND c.cnt > 0", nativeQuery = true)
+    int refreshAfterDelete(@Param("userId") Long userId, @Param("articleId") Long articleId);
+
+    @Modifying
+    @Query(value = "DELETE FROM user_commented_article " +
+            "WHERE user_id = :userId AND article_id = :articleId " +
+            "AND NOT EXISTS (SELECT 1 FROM comments WHERE user_id = :userId AND article_id = :articleId)", nativeQuery = true)
+    int deleteIfNoComment(@Param("userId") Long userId, @Param("articleId") Long articleId);
+
+    @Modifying
+    @Query("DELETE FROM UserCommentedArticle uca WHERE uca.article.id = :articleId")
+    int bulkDeleteByArticleId(@Param("articleId") Long articleId);
+
+    // 기존 댓글로 채우기 (중복은 무시)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_commented_article (user_id, article_id, last_commented_at, comment_count, created_at, updated_at) " +
+            "SELECT user_id, article_id, MAX(created_at), COUNT(*), NOW(), NOW() FROM comments GROUP BY user_id, article_id", nativeQuery = true)
+    int backfillFromComments();
+
+    @Query("SELECT uca FROM UserCommentedArticle uca " +
+            "JOIN FETCH uca.article a " +
+            "WHERE uca.user.id = :userId AND a.status = :status " +
+            "ORDER BY uca.lastCommentedAt DESC, uca.article.id DESC")
+    List<UserCommentedArticle> findFirstByUserId(@Param("userId") Long userId, @Param("status") Status status, Pageable pageable);
+
+    // 커서 (lastCommentedAt, articleId) 이후
+    @Query("SELECT uca FROM UserCommentedArticle uca " +
+            "JOIN FETCH uca.article a " +
+            "WHERE uca.user.id = :userId AND a.status = :status " +
+            "AND (uca.lastCommentedAt < :commentedAt OR (uca.lastCommentedAt = :commentedAt AND uca.article.id < :articleId)) " +
+            "ORDER BY uca.lastCommentedAt DESC, uca.article.id DESC")
+    List<UserCommentedArticle> findNextByUserId(@Param("userId") Long userId, @Param("status") Status status,
+                                                @Param("commentedAt") LocalDateTime commentedAt, @Param("articleId") Long articleId,
+                                                Pageable pageable);
+}
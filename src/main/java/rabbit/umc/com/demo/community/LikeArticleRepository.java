@@ -1,6 +1,9 @@
 package rabbit.umc.com.demo.community;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import rabbit.umc.com.demo.community.domain.mapping.LikeArticle;
 
@@ -11,4 +14,8 @@ public interface LikeArticleRepository extends JpaRepository<LikeArticle, Long>
     LikeArticle deleteByArticleIdAndUserId(Long articleId, Long userId);
 
     Boolean existsByArticleIdAndUserId(Long articleId, Long userId);
+
+    @Modifying
+    @Query("DELETE FROM LikeArticle la WHERE la.article.id = :articleId")
+    int bulkDeleteByArticleId(@Param("articleId") Long articleId);
 }
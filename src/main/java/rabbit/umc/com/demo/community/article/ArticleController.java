@@ -87,6 +87,61 @@ public class ArticleController {
         return new BaseResponse<>(articleListRes);
     }
 
+    /**
+     * 게시판 별 게시물 커서 페이징 조회 API
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param categoryId 게시판 카테고리 ID
+     * @return
+     * @throws BaseException
+     */
+    @Tag(name = "articleByCategoryCursor")
+    @Operation(summary = "카테고리 별 게시물 커서 페이징 조회 API")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200",description = "OK, 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON406", description = "잘못된 커서 값",content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "CATEGORY4001", description = "존재하지 않는 카테고리",content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+    })
+    @Parameters({
+            @Parameter(name = "cursor", description = "이전 페이지 응답의 nextCursor 입니다. 첫 페이지는 생략합니다."),
+            @Parameter(name = "categoryId", description = "조회할 게시물들의 카테고리 ID 입니다")
+    })
+    @GetMapping("/article/cursor")
+    public BaseResponse<ArticleListRes> getArticlesByCursor(@RequestParam(required = false, name = "cursor") String cursor, @RequestParam(name = "categoryId") Long categoryId) {
+        try {
+            ArticleListRes articleListRes = articleService.getArticlesByCursor(cursor, categoryId);
+            return new BaseResponse<>(articleListRes);
+        }catch (BaseException exception){
+            return new BaseResponse<>(exception.getStatus());
+        }
+    }
+
+    /**
+     * 게시물 검색 API
+     * @param keyword 검색어 (제목, 내용)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @return
+     */
+    @Tag(name = "searchArticle")
+    @Operation(summary = "게시물 검색 API")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200",description = "OK, 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON406", description = "잘못된 커서 값",content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "ARTICLE4007", description = "검색어 없음",content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+    })
+    @Parameters({
+            @Parameter(name = "keyword", description = "검색어 입니다."),
+            @Parameter(name = "cursor", description = "이전 페이지 응답의 nextCursor 입니다. 첫 페이지는 생략합니다.")
+    })
+    @GetMapping("/article/search")
+    public BaseResponse<ArticleSearchRes> searchArticles(@RequestParam(name = "keyword") String keyword, @RequestParam(required = false, name = "cursor") String cursor) {
+        try {
+            ArticleSearchRes articleSearchRes = articleService.searchArticles(keyword, cursor);
+            return new BaseResponse<>(articleSearchRes);
+        }catch (BaseException exception){
+            return new BaseResponse<>(exception.getStatus());
+        }
+    }
+
     /**
      * 게시물 조회 API
      * @param articleId 게시글 ID
@@ -251,6 +306,7 @@ public class ArticleController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200",description = "OK, 성공"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "JWT4001", description = "JWT 토큰을 주세요!",content = @Content(schema = @Schema(implementation = ApiResponse.class))),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "JWT4002", description = "JWT 토큰 만료",content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "USER4010", description = "존재하지 않는 회원",content = @Content(schema = @Schema(implementation = ApiResponse.class))),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "ARTICLE4006", description = "게시글 존재 안함",content = @Content(schema = @Schema(implementation = ApiResponse.class))),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "ARTICLE4002", description = "이미 좋아한 게시물",content = @Content(schema = @Schema(implementation = ApiResponse.class))),
     })
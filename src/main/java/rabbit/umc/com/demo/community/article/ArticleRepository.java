@@ -1,25 +1,25 @@
 package rabbit.umc.com.demo.community.article;
 
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import rabbit.umc.com.demo.base.Status;
 import rabbit.umc.com.demo.community.domain.Article;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ArticleRepository extends JpaRepository<Article, Long> {
 
-    @Query(value =
-            "SELECT a FROM Article a " +
-            "JOIN LikeArticle la ON a.id = la.article.id " +
-            "WHERE a.status = :status " +
-            "GROUP BY a " +
-            "HAVING COUNT(a) >= 5 " +
-            "ORDER BY a.createdAt DESC ")
+    @Query("SELECT a FROM Article a " +
+            "WHERE a.status = :status AND a.popular = true " +
+            "ORDER BY a.createdAt DESC")
     List<Article> findPopularArticleLimitedToFour(@Param("status") Status status, PageRequest pageRequest);
 
 //    @Query("SELECT new rabbit.umc.com.demo.article.dto.PopularArticleDto(a.id,a.title,a. createdAt, count(la), count(c)) " +
@@ -38,22 +38,111 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
 
     List<Article> findAllByCategoryIdAndStatus(Long categoryId, Status status, PageRequest pageRequest);
 
+    // 커서 페이징 첫 페이지
+    @Query("SELECT a FROM Article a " +
+            "WHERE a.category.id = :categoryId AND a.status = :status " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<Article> findFirstArticlesByCategory(@Param("categoryId") Long categoryId,
+                                              @Param("status") Status status,
+                                              Pageable pageable);
 
+    // 커서 (createdAt, id) 이후 게시물
+    @Query("SELECT a FROM Article a " +
+            "WHERE a.category.id = :categoryId AND a.status = :status " +
+            "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :articleId)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<Article> findNextArticlesByCategory(@Param("categoryId") Long categoryId,
+                                             @Param("status") Status status,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("articleId") Long articleId,
+                                             Pageable pageable);
 
-    Article findArticleById(Long id);
-
-
-    @Query(value = "SELECT a\n" +
-            "FROM Article a " +
-            "JOIN LikeArticle la ON a.id = la.article.id " +
-            "WHERE a.status = :status " +
-            "GROUP BY a " +
-            "HAVING COUNT(a) >= 5 ")
-    List<Article> findArticleLimited20(@Param("status") Status status, PageRequest pageRequest);
 
 
+    Article findArticleById(Long id);
 
+    // 게시물 상세 - 작성자, 카테고리, 이미지 한번에 조회
+    @Query("SELECT DISTINCT a FROM Article a " +
+            "JOIN FETCH a.user " +
+            "JOIN FETCH a.category " +
+            "LEFT JOIN FETCH a.images " +
+            "WHERE a.id = :articleId")
+    Optional<Article> findArticleDetailById(@Param("articleId") Long articleId);
 
 
+    @Query("SELECT a FROM Article a " +
+            "WHERE a.status = :status AND a.popular = true")
+    List<Article> findArticleLimited20(@Param("status") Status status, PageRequest pageRequest);
 
-}
\ No newline at end of file
+    @Modifying
+    @Query("UPDATE Article a SET a.likeCount = CASE WHEN a.likeCount + :delta < 0 THEN 0 ELSE a.likeCount + :delta END " +
+            "WHERE a.id = :articleId")
+    int addLikeCount(@Param("articleId") Long articleId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE Article a SET a.commentCount = a.commentCount + 1 WHERE a.id = :articleId")
+    int increaseCommentCount(@Param("articleId") Long articleId);
+
+    @Modifying
+    @Query("UPDATE Article a SET a.commentCount = a.commentCount - 1 WHERE a.id = :articleId AND a.commentCount > 0")
+    int decreaseCommentCount(@Param("articleId") Long articleId);
+
+    // 좋아요 수가 기준을 넘거나 내려갈 때만 인기 게시물 여부 변경
+    @Modifying
+    @Query("UPDATE Article a SET a.popular = true, a.popularAt = :now " +
+            "WHERE a.id = :articleId AND a.popular = false AND a.likeCount >= :threshold")
+    int markPopular(@Param("articleId") Long articleId, @Param("threshold") int threshold, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Article a SET a.popular = false, a.popularAt = null " +
+            "WHERE a.id = :articleId AND a.popular = true AND a.likeCount < :threshold")
+    int unmarkPopular(@Param("articleId") Long articleId, @Param("threshold") int threshold);
+
+    @Modifying
+    @Query("UPDATE Article a SET a.popular = true, a.popularAt = :now " +
+            "WHERE a.popular = false AND a.likeCount >= :threshold")
+    int markAllPopular(@Param("threshold") int threshold, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Article a SET a.popular = false, a.popularAt = null " +
+            "WHERE a.popular = true AND a.likeCount < :threshold")
+    int unmarkAllPopular(@Param("threshold") int threshold);
+
+    // 실제 좋아요/댓글 row 수와 어긋난 카운터만 다시 맞춤
+    @Modifying
+    @Query(value = "UPDATE article a " +
+            "LEFT JOIN (SELECT article_id, COUNT(*) AS cnt FROM like_article GROUP BY article_id) la ON la.article_id = a.article_id " +
+            "LEFT JOIN (SELECT article_id, COUNT(*) AS cnt FROM comments GROUP BY article_id) c ON c.article_id = a.article_id " +
+            "SET a.like_count = COALESCE(la.cnt, 0), a.comment_count = COALESCE(c.cnt, 0) " +
+            "WHERE a.like_count <> COALESCE(la.cnt, 0) OR a.comment_count <> COALESCE(c.cnt, 0)", nativeQuery = true)
+    int reconcileCounts();
+
+    // 검색 색인 구성용 id 순 조회
+    @Query("SELECT a FROM Article a WHERE a.status = :status AND a.id > :lastId ORDER BY a.id ASC")
+    List<Article> findArticlesForIndex(@Param("status") Status status, @Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT a FROM Article a WHERE a.updatedAt > :since AND a.id > :lastId ORDER BY a.id ASC")
+    List<Article> findArticlesUpdatedSince(@Param("since") LocalDateTime since, @Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT a.id FROM Article a WHERE a.status = :status")
+    List<Long> findIdsByStatus(@Param("status") Status status);
+
+    List<Article> findAllByIdInAndStatus(List<Long> ids, Status status);
+
+    // 신고 수 증가, 잡은 row 락은 커밋까지 유지돼 같은 게시물 신고는 한 건씩 처리된다
+    @Modifying
+    @Query(value = "UPDATE article SET report_count = report_count + 1 WHERE article_id = :articleId", nativeQuery = true)
+    int increaseReportCount(@Param("articleId") Long articleId);
+
+    // 신고 수가 기준 이상인 활성 게시물 비활성화, 기준을 넘긴 신고 한 건에서만 1 이 반환된다
+    // updated_at 을 갱신해 다른 서버의 검색 색인 동기화에도 반영
+    @Modifying
+    @Query(value = "UPDATE article SET status = 'INACTIVE', updated_at = NOW() " +
+            "WHERE article_id = :articleId AND status = 'ACTIVE' AND report_count >= :limit", nativeQuery = true)
+    int inactivateIfReported(@Param("articleId") Long articleId, @Param("limit") int limit);
+
+    // 연관 row 는 ArticleService.deleteArticle 에서 먼저 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM Article a WHERE a.id = :articleId")
+    int bulkDeleteById(@Param("articleId") Long articleId);
+}
@@ -0,0 +1,68 @@
+package rabbit.umc.com.demo.community.article.service;
+
+import java.time.LocalDateTime;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import rabbit.umc.com.demo.community.LikeArticleRepository;
+import rabbit.umc.com.demo.community.article.ArticleRepository;
+import rabbit.umc.com.config.SchedulingConfig;
+import rabbit.umc.com.demo.like.BufferedLikeWriter;
+
+/**
+ * 게시물 좋아요 쓰기 지연 반영
+ */
+@Component
+public class ArticleLikeWriter extends BufferedLikeWriter {
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO like_article (user_id, article_id, status, created_at, updated_at) " +
+            "VALUES (?, ?, 'ACTIVE', NOW(), NOW())";
+    private static final String DELETE_SQL =
+            "DELETE FROM like_article WHERE user_id = ? AND article_id = ?";
+
+    private final ArticleRepository articleRepository;
+    private final LikeArticleRepository likeArticleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ArticleLikeWriter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                             ArticleRepository articleRepository, LikeArticleRepository likeArticleRepository,
+                             ApplicationEventPublisher eventPublisher,
+                             @Qualifier(SchedulingConfig.FLUSH_TASK_SCHEDULER) TaskScheduler flushTaskScheduler,
+                             @Value("${like.buffer.flush-delay-ms:300}") long flushDelayMillis) {
+        super(jdbcTemplate, transactionTemplate, flushTaskScheduler, flushDelayMillis);
+        this.articleRepository = articleRepository;
+        this.likeArticleRepository = likeArticleRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    protected String insertSql() {
+        return INSERT_SQL;
+    }
+
+    @Override
+    protected String deleteSql() {
+        return DELETE_SQL;
+    }
+
+    @Override
+    protected boolean existsInDb(Long userId, Long articleId) {
+        return likeArticleRepository.existsByArticleIdAndUserId(articleId, userId);
+    }
+
+    @Override
+    protected void applyDelta(Long articleId, int delta) {
+        articleRepository.addLikeCount(articleId, delta);
+        int changed = delta > 0
+                ? articleRepository.markPopular(articleId, ArticleService.POPULAR_LIKE_THRESHOLD, LocalDateTime.now())
+                : articleRepository.unmarkPopular(articleId, ArticleService.POPULAR_LIKE_THRESHOLD);
+        // 인기 게시물 목록이 바뀔 때만 홈 캐시를 비움, 좋아요 수만 바뀐 경우는 TTL 로 반영
+        if (changed > 0) {
+            eventPublisher.publishEvent(new CommunityHomeChangedEvent());
+        }
+    }
+}
@@ -23,6 +23,11 @@ public class ArticleQueryService {
                 .orElseThrow(() -> new BaseException(BaseResponseStatus.DONT_EXIST_ARTICLE));
     }
 
+    public Article findDetailById(Long id) throws BaseException {
+        return articleRepository.findArticleDetailById(id)
+                .orElseThrow(() -> new BaseException(BaseResponseStatus.DONT_EXIST_ARTICLE));
+    }
+
     public void validBoardOwner(Long userId, Article article) throws BaseException {
         if (!article.getUser().getId().equals(userId)){
             throw new BaseException(INVALID_USER_JWT);
@@ -0,0 +1,365 @@
+package rabbit.umc.com.demo.community.article.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import javax.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import rabbit.umc.com.demo.community.article.ArticleRepository;
+import rabbit.umc.com.demo.community.domain.Article;
+import rabbit.umc.com.utils.CursorUtil.ScoreCursor;
+import rabbit.umc.com.utils.NGramUtil;
+
+import static rabbit.umc.com.demo.base.Status.ACTIVE;
+
+/**
+ * 게시물 제목/내용 n-gram 역색인
+ * 서버 시작시 스냅샷 + 이후 변경분으로 구성하고, 게시물 작성/수정/삭제시 바로 갱신한다.
+ * 다른 서버에서 작성/수정된 게시물은 주기적으로 DB 에서 가져와 반영한다.
+ * (다른 서버에서 삭제/비활성화된 게시물은 검색 결과 조회 시 ACTIVE 조건으로 걸러진다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleSearchIndex {
+    private static final int SNAPSHOT_MAGIC = 0x41534958;
+    // 2 : 1-gram 색인 추가
+    private static final int SNAPSHOT_VERSION = 2;
+    private static final int LOAD_CHUNK_SIZE = 500;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int CONTENT_WEIGHT = 1;
+    // 스냅샷 작성 중 커밋된 변경을 놓치지 않도록 워터마크를 앞당기는 시간
+    private static final long WATERMARK_MARGIN_MINUTES = 1;
+
+    private final ArticleRepository articleRepository;
+
+    @Value("${search.snapshot.path:./article-search.snapshot}")
+    private String snapshotPath;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // n-gram -> (articleId -> 가중치 합)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    // articleId -> (n-gram -> 가중치 합), 수정/삭제시 postings 정리용
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private volatile boolean dirty;
+    // DB 동기화 기준, load 전에는 null
+    private volatile LocalDateTime syncWatermark;
+    private volatile long lastIndexedId;
+
+    public void index(Article article) {
+        Map<String, Integer> terms = toTerms(article);
+        lock.writeLock().lock();
+        try {
+            removeInternal(article.getId());
+            addInternal(article.getId(), terms);
+            lastIndexedId = Math.max(lastIndexedId, article.getId());
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long articleId) {
+        lock.writeLock().lock();
+        try {
+            if (removeInternal(articleId)) {
+                dirty = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 n-gram 을 포함하는 게시물을 tf-idf 점수순(동점이면 id 역순)으로 반환
+     * @param after 이전 페이지 마지막 (점수, id), 첫 페이지는 null
+     */
+    public List<SearchHit> search(String keyword, ScoreCursor after, int limit) {
+        Set<String> grams = NGramUtil.queryGrams(keyword);
+        if (grams.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> matched = new ArrayList<>();
+            for (String gram : grams) {
+                Map<Long, Integer> posting = postings.get(gram);
+                if (posting == null) {
+                    return new ArrayList<>();
+                }
+                matched.add(posting);
+            }
+            // 가장 짧은 posting 을 기준으로 교집합
+            matched.sort(Comparator.comparingInt(Map::size));
+
+            int totalDocs = documents.size();
+            List<SearchHit> hits = new ArrayList<>();
+            for (Long articleId : matched.get(0).keySet()) {
+                double score = 0;
+                boolean containsAll = true;
+                for (Map<Long, Integer> posting : matched) {
+                    Integer tf = posting.get(articleId);
+                    if (tf == null) {
+                        containsAll = false;
+                        break;
+                    }
+                    score += tf * Math.log(1 + (double) totalDocs / posting.size());
+                }
+                if (containsAll && isAfter(score, articleId, after)) {
+                    hits.add(new SearchHit(articleId, score));
+                }
+            }
+
+            return hits.stream()
+                    .sorted(Comparator.comparingDouble(SearchHit::getScore).reversed()
+                            .thenComparing(SearchHit::getArticleId, Comparator.reverseOrder()))
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        LocalDateTime nextWatermark = LocalDateTime.now().minusMinutes(WATERMARK_MARGIN_MINUTES);
+        LocalDateTime watermark = loadSnapshot();
+        if (watermark == null) {
+            rebuild();
+        } else {
+            catchUp(watermark);
+        }
+        syncWatermark = nextWatermark;
+        dirty = true;
+        log.info("게시물 검색 색인 구성 완료. documents: {}, grams: {}", documents.size(), postings.size());
+    }
+
+    // 새 게시물은 id 로, 수정된 게시물은 updatedAt 으로 가져옴 (워터마크는 커밋 지연을 감안해 겹치게 잡는다)
+    @Scheduled(fixedDelayString = "${search.sync.interval-ms:30000}")
+    public void syncFromDb() {
+        LocalDateTime watermark = syncWatermark;
+        if (watermark == null) {
+            return;
+        }
+        LocalDateTime nextWatermark = LocalDateTime.now().minusMinutes(WATERMARK_MARGIN_MINUTES);
+        indexAfter(lastIndexedId);
+        applyUpdatedSince(watermark);
+        syncWatermark = nextWatermark;
+    }
+
+    @Scheduled(fixedDelayString = "${search.snapshot.interval-ms:600000}")
+    public void saveSnapshot() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        LocalDateTime watermark = LocalDateTime.now().minusMinutes(WATERMARK_MARGIN_MINUTES);
+        Path path = Paths.get(snapshotPath);
+        Path tmp = Paths.get(snapshotPath + ".tmp");
+
+        lock.readLock().lock();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(tmp))))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeUTF(watermark.toString());
+            out.writeInt(documents.size());
+            for (Map.Entry<Long, Map<String, Integer>> document : documents.entrySet()) {
+                out.writeLong(document.getKey());
+                out.writeInt(document.getValue().size());
+                for (Map.Entry<String, Integer> term : document.getValue().entrySet()) {
+                    out.writeUTF(term.getKey());
+                    out.writeInt(term.getValue());
+                }
+            }
+        } catch (IOException e) {
+            dirty = true;
+            log.error("게시물 검색 색인 스냅샷 저장 실패. path: {}", snapshotPath, e);
+            return;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        try {
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty = true;
+            log.error("게시물 검색 색인 스냅샷 교체 실패. path: {}", snapshotPath, e);
+        }
+    }
+
+    @PreDestroy
+    public void saveSnapshotOnShutdown() {
+        saveSnapshot();
+    }
+
+    // 스냅샷이 없거나 깨졌으면 null
+    private LocalDateTime loadSnapshot() {
+        Path path = Paths.get(snapshotPath);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        Map<Long, Map<String, Integer>> loaded = new HashMap<>();
+        LocalDateTime watermark;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(path))))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                log.warn("게시물 검색 색인 스냅샷 형식이 달라 새로 색인합니다. path: {}", snapshotPath);
+                return null;
+            }
+            watermark = LocalDateTime.parse(in.readUTF());
+            int documentCount = in.readInt();
+            for (int i = 0; i < documentCount; i++) {
+                long articleId = in.readLong();
+                int termCount = in.readInt();
+                Map<String, Integer> terms = new HashMap<>(termCount * 2);
+                for (int j = 0; j < termCount; j++) {
+                    terms.put(in.readUTF(), in.readInt());
+                }
+                loaded.put(articleId, terms);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("게시물 검색 색인 스냅샷을 읽지 못해 새로 색인합니다. path: {}", snapshotPath, e);
+            return null;
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            loaded.forEach(this::addInternal);
+            lastIndexedId = loaded.keySet().stream().mapToLong(Long::longValue).max().orElse(0L);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return watermark;
+    }
+
+    private void rebuild() {
+        indexAfter(0L);
+    }
+
+    private void indexAfter(long afterId) {
+        Long lastId = afterId;
+        List<Article> chunk;
+        do {
+            chunk = articleRepository.findArticlesForIndex(ACTIVE, lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            chunk.forEach(this::index);
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+    }
+
+    // 스냅샷 이후 변경된 게시물 반영 + 삭제/비활성화된 게시물 정리
+    private void catchUp(LocalDateTime watermark) {
+        applyUpdatedSince(watermark);
+
+        Set<Long> activeIds = new HashSet<>(articleRepository.findIdsByStatus(ACTIVE));
+        List<Long> staleIds;
+        List<Long> missingIds;
+        lock.readLock().lock();
+        try {
+            staleIds = documents.keySet().stream()
+                    .filter(id -> !activeIds.contains(id))
+                    .collect(Collectors.toList());
+            missingIds = activeIds.stream()
+                    .filter(id -> !documents.containsKey(id))
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+        staleIds.forEach(this::remove);
+        for (int from = 0; from < missingIds.size(); from += LOAD_CHUNK_SIZE) {
+            List<Long> ids = missingIds.subList(from, Math.min(from + LOAD_CHUNK_SIZE, missingIds.size()));
+            articleRepository.findAllByIdInAndStatus(ids, ACTIVE).forEach(this::index);
+        }
+    }
+
+    private void applyUpdatedSince(LocalDateTime watermark) {
+        Long lastId = 0L;
+        List<Article> chunk;
+        do {
+            chunk = articleRepository.findArticlesUpdatedSince(watermark, lastId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            for (Article article : chunk) {
+                if (article.getStatus() == ACTIVE) {
+                    index(article);
+                } else {
+                    remove(article.getId());
+                }
+            }
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+    }
+
+    private Map<String, Integer> toTerms(Article article) {
+        Map<String, Integer> terms = new HashMap<>();
+        NGramUtil.addDocumentGrams(article.getTitle(), TITLE_WEIGHT, terms);
+        NGramUtil.addDocumentGrams(article.getContent(), CONTENT_WEIGHT, terms);
+        return terms;
+    }
+
+    private void addInternal(Long articleId, Map<String, Integer> terms) {
+        documents.put(articleId, terms);
+        terms.forEach((gram, tf) -> postings.computeIfAbsent(gram, g -> new HashMap<>()).put(articleId, tf));
+    }
+
+    private boolean removeInternal(Long articleId) {
+        Map<String, Integer> terms = documents.remove(articleId);
+        if (terms == null) {
+            return false;
+        }
+        for (String gram : terms.keySet()) {
+            Map<Long, Integer> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(articleId);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean isAfter(double score, Long articleId, ScoreCursor after) {
+        if (after == null) {
+            return true;
+        }
+        return score < after.getScore() || (score == after.getScore() && articleId < after.getId());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SearchHit {
+        private Long articleId;
+        private double score;
+    }
+}
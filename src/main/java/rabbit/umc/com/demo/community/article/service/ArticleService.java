@@ -4,8 +4,12 @@ import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -13,18 +17,17 @@ import rabbit.umc.com.config.apiPayload.BaseException;
 import rabbit.umc.com.demo.base.Status;
 import rabbit.umc.com.demo.community.*;
 import rabbit.umc.com.demo.community.article.ArticleRepository;
+import rabbit.umc.com.demo.community.article.service.ArticleSearchIndex.SearchHit;
 import rabbit.umc.com.demo.community.category.CategoryRepository;
 import rabbit.umc.com.demo.community.Comments.CommentRepository;
+import rabbit.umc.com.demo.community.Comments.CommentService;
+import rabbit.umc.com.demo.community.Comments.UserCommentedArticleRepository;
 import rabbit.umc.com.demo.community.domain.*;
-import rabbit.umc.com.demo.community.domain.mapping.LikeArticle;
 import rabbit.umc.com.demo.community.dto.*;
 import rabbit.umc.com.demo.community.dto.ArticleRes.ArticleImageDto;
 import rabbit.umc.com.demo.community.dto.ArticleRes.CommentDto;
-import rabbit.umc.com.demo.community.dto.CommunityHomeResV2.MainMissionDtoV2;
-import rabbit.umc.com.demo.community.dto.CommunityHomeResV2.PopularArticleDtoV2;
 import rabbit.umc.com.demo.converter.ArticleConverter;
 import rabbit.umc.com.demo.converter.CommentConverter;
-import rabbit.umc.com.demo.converter.MainMissionConverter;
 import rabbit.umc.com.demo.converter.ReportConverter;
 import rabbit.umc.com.demo.image.domain.Image;
 import rabbit.umc.com.demo.image.repository.ImageRepository;
@@ -33,12 +36,23 @@ import rabbit.umc.com.demo.mainmission.repository.MainMissionRepository;
 import rabbit.umc.com.demo.mainmission.domain.MainMission;
 import rabbit.umc.com.demo.report.Report;
 import rabbit.umc.com.demo.report.ReportRepository;
+import rabbit.umc.com.demo.report.ReportService;
 import rabbit.umc.com.demo.user.Domain.User;
 import rabbit.umc.com.demo.user.service.UserQueryService;
+import rabbit.umc.com.s3.S3ObjectDeleteEvent;
+import rabbit.umc.com.scheduling.JdbcLeaseLock;
+import rabbit.umc.com.utils.CursorUtil;
+import rabbit.umc.com.utils.CursorUtil.Cursor;
+import rabbit.umc.com.utils.CursorUtil.ScoreCursor;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import static rabbit.umc.com.config.apiPayload.BaseResponseStatus.*;
@@ -51,19 +65,27 @@ import static rabbit.umc.com.demo.base.Status.*;
 @Slf4j
 public class ArticleService {
     private static final int POPULAR_ARTICLE_LIKE = 4;
+    static final int POPULAR_LIKE_THRESHOLD = 5;
     private static final int PAGING_SIZE = 20;
-    private static final int REPORT_LIMIT = 15;
 
     private final ArticleRepository articleRepository;
     private final MainMissionRepository mainMissionRepository;
     private final CommentRepository commentRepository;
+    private final UserCommentedArticleRepository userCommentedArticleRepository;
     private final LikeArticleRepository likeArticleRepository;
+    private final ArticleLikeWriter articleLikeWriter;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final JdbcLeaseLock leaseLock;
+    private final CommunityHomeCache communityHomeCache;
+    private final ApplicationEventPublisher eventPublisher;
     private final CategoryRepository categoryRepository;
     private final ReportRepository reportRepository;
+    private final ReportService reportService;
     private final ImageRepository imageRepository;
     private final UserQueryService userQueryService;
     private final ImageService imageService;
     private final ArticleQueryService articleQueryService;
+    private final CommentService commentService;
 
 
     public CommunityHomeRes getHomeV1() {
@@ -78,33 +100,17 @@ public class ArticleService {
     }
 
     public CommunityHomeResV2 getHomeV2(Long userId) {
+        // 유저와 무관한 부분은 캐시, 묘집사 카테고리만 매번 조회
+        CommunityHomeCache.Snapshot home = communityHomeCache.get();
         return CommunityHomeResV2.builder()
-                .mainMission(getAllMainMission())
-                .popularArticle(getTop4Articles())
+                .mainMission(home.getMainMissions())
+                .popularArticle(home.getPopularArticles())
                 .userHostCategory(findHostCategoryIds(userId))
                 .build();
     }
 
-    public List<MainMissionDtoV2> getAllMainMission(){
-        List<MainMission> missions = mainMissionRepository.findProgressMissionByStatus(ACTIVE);
-
-        return missions.stream()
-                .map(MainMissionConverter::toMainMissionDtoV2)
-                .collect(Collectors.toList());
-    }
-
-
     public List<Long> findHostCategoryIds(Long userId){
-        List<Category> category = categoryRepository.findAllByUserId(userId);
-        return category.stream()
-                .map(Category::getId)
-                .collect(Collectors.toList());
-    }
-
-    public List<PopularArticleDtoV2> getTop4Articles(){
-        PageRequest pageRequest = PageRequest.of(0,POPULAR_ARTICLE_LIKE);
-        List<Article> top4Articles = articleRepository.findPopularArticleLimitedToFour(ACTIVE, pageRequest);
-        return ArticleConverter.toPopularArticleDtoV2(top4Articles);
+        return categoryRepository.findIdsByUserId(userId);
     }
 
     public String getHostUserName(MainMission mainMission){
@@ -132,12 +138,71 @@ public class ArticleService {
         return ArticleConverter.toArticleListRes(category, mainMission, articlePage);
     }
 
+    public ArticleListRes getArticlesByCursor(String cursor, Long categoryId) throws BaseException {
+        Category category = categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new BaseException(DONT_EXIST_CATEGORY));
+
+        // 다음 페이지 존재 여부 확인을 위해 한 개 더 조회
+        PageRequest pageRequest = PageRequest.of(0, PAGING_SIZE + 1);
+        List<Article> articles;
+        if (cursor == null || cursor.isBlank()) {
+            articles = articleRepository.findFirstArticlesByCategory(categoryId, ACTIVE, pageRequest);
+        } else {
+            Cursor decoded = CursorUtil.decode(cursor);
+            articles = articleRepository.findNextArticlesByCategory(categoryId, ACTIVE, decoded.getTime(), decoded.getId(), pageRequest);
+        }
+
+        String nextCursor = null;
+        if (articles.size() > PAGING_SIZE) {
+            articles = articles.subList(0, PAGING_SIZE);
+            Article last = articles.get(PAGING_SIZE - 1);
+            nextCursor = CursorUtil.encode(last.getCreatedAt(), last.getId());
+        }
+
+        MainMission mainMission = mainMissionRepository.findMainMissionsByCategoryIdAndStatus(categoryId, ACTIVE);
+        return ArticleConverter.toArticleListRes(category, mainMission, articles, nextCursor);
+    }
+
+    public ArticleSearchRes searchArticles(String keyword, String cursor) throws BaseException {
+        if (keyword == null || keyword.isBlank()) {
+            throw new BaseException(EMPTY_SEARCH_KEYWORD);
+        }
+        ScoreCursor after = (cursor == null || cursor.isBlank()) ? null : CursorUtil.decodeScore(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 개 더 조회
+        List<SearchHit> hits = articleSearchIndex.search(keyword, after, PAGING_SIZE + 1);
+        String nextCursor = null;
+        if (hits.size() > PAGING_SIZE) {
+            hits = hits.subList(0, PAGING_SIZE);
+            SearchHit last = hits.get(PAGING_SIZE - 1);
+            nextCursor = CursorUtil.encodeScore(last.getScore(), last.getArticleId());
+        }
+        if (hits.isEmpty()) {
+            return ArticleConverter.toArticleSearchRes(new ArrayList<>(), null);
+        }
+
+        // 색인 순서대로 정렬, 그 사이 삭제/비활성화된 게시물은 제외
+        List<Long> articleIds = hits.stream()
+                .map(SearchHit::getArticleId)
+                .collect(Collectors.toList());
+        Map<Long, Article> articleMap = articleRepository.findAllByIdInAndStatus(articleIds, ACTIVE)
+                .stream()
+                .collect(Collectors.toMap(Article::getId, article -> article));
+        List<Article> articles = articleIds.stream()
+                .map(articleMap::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        return ArticleConverter.toArticleSearchRes(articles, nextCursor);
+    }
+
     public ArticleRes getArticle(Long articleId, Long userId) throws BaseException {
         try {
             // userId 유저가 articleId 게시물 좋아하는지 체크
-            Boolean isLike = likeArticleRepository.existsByArticleIdAndUserId(articleId, userId);
+            Boolean isLike = articleLikeWriter.isLiked(userId, articleId);
 
-            Article article = articleQueryService.findById(articleId);
+            // 게시물 + 작성자 + 카테고리 + 이미지 한번에 조회
+            Article article = articleQueryService.findDetailById(articleId);
 
             // 게시물의 이미지들에 대해 DTO 에 매핑
             List<ArticleImageDto> articleImages = article.getImages()
@@ -145,14 +210,10 @@ public class ArticleService {
                     .map(ArticleConverter::toArticleImageDto)
                     .collect(Collectors.toList());
 
-            // 게시물의 댓글들에 대해 DTO 매핑
-            List<CommentDto> commentLists = article.getComments()
-                    .stream()
-                    .sorted(Comparator.comparing(Comment::getCreatedAt))
-                    .map(CommentConverter::toCommentDto)
-                    .collect(Collectors.toList());
+            // 댓글은 첫 페이지만, 나머지는 커서로 조회
+            ArticleCommentListRes commentPage = commentService.getComments(articleId, null);
 
-            return ArticleConverter.toArticleRes(article,isLike,articleImages,commentLists);
+            return ArticleConverter.toArticleRes(article, isLike, articleImages, commentPage);
         }catch (NullPointerException e){
             throw new BaseException(DONT_EXIST_ARTICLE);
         }
@@ -167,7 +228,22 @@ public class ArticleService {
             if (!findArticle.getUser().getId().equals(userId)) {
                 throw new BaseException(FORBIDDEN);
             }
-            articleRepository.deleteById(articleId);
+
+            // cascade 로 자식 row 를 하나씩 지우지 않고 article_id 기준으로 일괄 삭제
+            List<String> imagePaths = imageRepository.findFilePathsByArticleId(articleId);
+            reportRepository.bulkDeleteByArticleId(articleId);
+            userCommentedArticleRepository.bulkDeleteByArticleId(articleId);
+            commentRepository.bulkDeleteByArticleId(articleId);
+            likeArticleRepository.bulkDeleteByArticleId(articleId);
+            imageRepository.bulkDeleteByArticleId(articleId);
+            articleRepository.bulkDeleteById(articleId);
+
+            // S3 이미지는 커밋 후 백그라운드에서 삭제
+            if (!imagePaths.isEmpty()) {
+                eventPublisher.publishEvent(new S3ObjectDeleteEvent(imagePaths));
+            }
+            articleSearchIndex.remove(articleId);
+            eventPublisher.publishEvent(new CommunityHomeChangedEvent());
         }catch (NullPointerException e){
             throw new BaseException(DONT_EXIST_ARTICLE);
         }
@@ -180,6 +256,7 @@ public class ArticleService {
 
         Article article = ArticleConverter.toArticle(postArticleReq,user,category);
         articleRepository.save(article);
+        articleSearchIndex.index(article);
 
         if (multipartFiles != null ) {
             imageService.createArticleImage(multipartFiles, article);
@@ -210,6 +287,8 @@ public class ArticleService {
                 }
             }
             articleRepository.save(targetArticle);
+            articleSearchIndex.index(targetArticle);
+            eventPublisher.publishEvent(new CommunityHomeChangedEvent());
 
         }catch (NullPointerException e){
             throw new BaseException(DONT_EXIST_ARTICLE);
@@ -228,12 +307,11 @@ public class ArticleService {
                 throw new BaseException(FAILED_TO_REPORT);
             } else {
                 Report report = ReportConverter.toArticleReport(user,article);
-                reportRepository.save(report);
 
-                // 신고 횟수 15회 이상 시 게시물 status 변경 로직  [ACTIVE -> INACTIVE]
-                int reportCount = reportRepository.countByArticleId(articleId);
-                if (reportCount >= REPORT_LIMIT) {
-                    article.setInactive();
+                // 신고 횟수 15회 이상 시 게시물 status 변경 [ACTIVE -> INACTIVE] 은 신고 수 증가 쿼리에서 처리
+                if (reportService.reportArticle(report)) {
+                    articleSearchIndex.remove(articleId);
+                    eventPublisher.publishEvent(new CommunityHomeChangedEvent());
                 }
             }
         }catch (EntityNotFoundException e){
@@ -242,47 +320,34 @@ public class ArticleService {
     }
 
 
-    @Transactional
     public void likeArticle(Long userId, Long articleId) throws BaseException {
-        try {
-            User user = userQueryService.getUser(userId);
-            Article article = articleQueryService.findById(articleId);
-
-            LikeArticle existlikeArticle = likeArticleRepository.findLikeArticleByArticleIdAndUserId(articleId, userId);
-            //이미 좋아한 게시물인지 체크
-            if (existlikeArticle != null) {
-                throw new BaseException(FAILED_TO_LIKE);
-            }
-
-            //게시물 좋아요 저장
-            LikeArticle likeArticle = ArticleConverter.toLikeArticle(user, article);
-            likeArticleRepository.save(likeArticle);
-        }catch (EntityNotFoundException e){
+        if (!userQueryService.existsUser(userId)) {
+            throw new BaseException(USER_NOT_FOUND);
+        }
+        if (!articleRepository.existsById(articleId)) {
             throw new BaseException(DONT_EXIST_ARTICLE);
         }
+        //이미 좋아한 게시물인지 체크, 저장은 ArticleLikeWriter 가 모아서 반영
+        if (!articleLikeWriter.like(userId, articleId)) {
+            throw new BaseException(FAILED_TO_LIKE);
+        }
     }
 
-    @Transactional
     public void unLikeArticle(Long userId, Long articleId) throws BaseException {
-        try {
-            Article article = articleQueryService.findById(articleId);
-
-            LikeArticle existlikeArticle = likeArticleRepository.findLikeArticleByArticleIdAndUserId(articleId, userId);
-            //좋아요 했던 게시물인지 체크
-            if (existlikeArticle == null) {
-                throw new BaseException(FAILED_TO_UNLIKE);
-            }
-            likeArticleRepository.delete(existlikeArticle);
-        }catch (EntityNotFoundException e){
+        if (!articleRepository.existsById(articleId)) {
             throw new BaseException(DONT_EXIST_ARTICLE);
         }
+        //좋아요 했던 게시물인지 체크
+        if (!articleLikeWriter.unlike(userId, articleId)) {
+            throw new BaseException(FAILED_TO_UNLIKE);
+        }
     }
 
     public List<GetPopularArticleRes> popularArticle(int page) throws BaseException{
         int pageSize = 20; //페이징시 가져올 데이터 수
         PageRequest pageRequest =PageRequest.of(page, pageSize, Sort.by("createdAt").descending());
 
-        //Status:ACTIVE 좋아요 5개 이상인 게시물 최신순으로 정렬해서 가져오기
+        //Status:ACTIVE 인기 게시물(좋아요 5개 이상) 최신순으로 정렬해서 가져오기
         List<Article> popularArticles = articleRepository.findArticleLimited20(ACTIVE, pageRequest);
 
         //DTO 매핑
@@ -295,4 +360,35 @@ public class ArticleService {
 
         return getPopularArticleRes;
     }
-}
\ No newline at end of file
+
+    /**
+     * 스케줄러
+     * 좋아요/댓글 카운터가 실제 row 수와 어긋난 게시물 보정
+     */
+    @Transactional
+    @Scheduled(cron = "0 30 4 * * ?") // 매일 새벽 4시 30분
+    public void reconcileArticleCounts() {
+        // 여러 서버 중 한 곳에서만 실행
+        leaseLock.runExclusively("article-count-reconcile", Duration.ofMinutes(30), Duration.ofMinutes(1), lease -> {
+            int fixed = articleRepository.reconcileCounts();
+            if (fixed > 0) {
+                log.info("좋아요/댓글 카운터 보정된 게시물 수: {}", fixed);
+            }
+            rebuildPopularArticles();
+        });
+    }
+
+    /**
+     * 서버 시작시 좋아요 카운터 기준으로 인기 게시물 여부 재계산
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildPopularArticles() {
+        int marked = articleRepository.markAllPopular(POPULAR_LIKE_THRESHOLD, LocalDateTime.now());
+        int unmarked = articleRepository.unmarkAllPopular(POPULAR_LIKE_THRESHOLD);
+        log.info("인기 게시물 재계산 완료 (추가: {}, 해제: {})", marked, unmarked);
+        if (marked + unmarked > 0) {
+            eventPublisher.publishEvent(new CommunityHomeChangedEvent());
+        }
+    }
+}
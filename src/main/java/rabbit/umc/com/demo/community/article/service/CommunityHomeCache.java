@@ -0,0 +1,126 @@
+package rabbit.umc.com.demo.community.article.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import rabbit.umc.com.demo.community.article.ArticleRepository;
+import rabbit.umc.com.demo.community.domain.Article;
+import rabbit.umc.com.demo.community.dto.CommunityHomeResV2.MainMissionDtoV2;
+import rabbit.umc.com.demo.community.dto.CommunityHomeResV2.PopularArticleDtoV2;
+import rabbit.umc.com.demo.converter.ArticleConverter;
+import rabbit.umc.com.demo.converter.MainMissionConverter;
+import rabbit.umc.com.demo.mainmission.domain.MainMission;
+import rabbit.umc.com.demo.mainmission.repository.MainMissionRepository;
+import rabbit.umc.com.demo.mainmission.service.MainMissionLeaderboard;
+import rabbit.umc.com.demo.mainmission.service.RankTree.RankEntry;
+import rabbit.umc.com.demo.user.Domain.User;
+import rabbit.umc.com.demo.user.service.UserQueryService;
+
+import static rabbit.umc.com.demo.base.Status.ACTIVE;
+
+/**
+ * 커뮤니티 홈 화면 중 유저와 무관한 부분(진행중 메인 미션 + 1등, 인기 게시물) 캐시
+ * CommunityHomeChangedEvent 발생시 비우고, 놓친 변경(댓글 수, 좋아요 수 등)은 TTL 로 보정한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommunityHomeCache {
+    private static final int POPULAR_ARTICLE_SIZE = 4;
+
+    private final MainMissionRepository mainMissionRepository;
+    private final MainMissionLeaderboard mainMissionLeaderboard;
+    private final UserQueryService userQueryService;
+    private final ArticleRepository articleRepository;
+
+    @Value("${community.home.cache-ttl-ms:60000}")
+    private long ttlMillis;
+
+    // 스냅샷 생성 중 무효화가 일어났는지 확인용
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public Snapshot get() {
+        Snapshot current = snapshot;
+        if (current != null && current.isFresh(ttlMillis)) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (current != null && current.isFresh(ttlMillis)) {
+                return current;
+            }
+            long startVersion = version.get();
+            Snapshot built = build();
+            if (version.get() == startVersion) {
+                snapshot = built;
+            }
+            return built;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void invalidate(CommunityHomeChangedEvent event) {
+        version.incrementAndGet();
+        snapshot = null;
+    }
+
+    private Snapshot build() {
+        List<MainMission> missions = mainMissionRepository.findProgressMissionByStatus(ACTIVE);
+
+        // 미션별 1등은 순위표에서, 이름은 한번에 조회
+        Map<Long, Long> topRankerIds = new HashMap<>();
+        for (MainMission mission : missions) {
+            List<RankEntry> top = mainMissionLeaderboard.top(mission.getId(), 1);
+            if (!top.isEmpty()) {
+                topRankerIds.put(mission.getId(), top.get(0).getUserId());
+            }
+        }
+        Map<Long, String> userNames = topRankerIds.isEmpty()
+                ? Collections.emptyMap()
+                : userQueryService.getUsers(new ArrayList<>(topRankerIds.values()))
+                        .stream()
+                        .collect(Collectors.toMap(User::getId, User::getUserName));
+        Map<Long, String> topRankers = new HashMap<>();
+        topRankerIds.forEach((missionId, userId) -> topRankers.put(missionId, userNames.get(userId)));
+
+        List<MainMissionDtoV2> mainMissions = missions.stream()
+                .map(mission -> MainMissionConverter.toMainMissionDtoV2(mission, topRankers.getOrDefault(mission.getId(), "없음")))
+                .collect(Collectors.toList());
+
+        List<Article> popular = articleRepository.findPopularArticleLimitedToFour(ACTIVE, PageRequest.of(0, POPULAR_ARTICLE_SIZE));
+        List<PopularArticleDtoV2> popularArticles = ArticleConverter.toPopularArticleDtoV2(popular);
+
+        return new Snapshot(mainMissions, popularArticles);
+    }
+
+    @Getter
+    public static class Snapshot {
+        private final List<MainMissionDtoV2> mainMissions;
+        private final List<PopularArticleDtoV2> popularArticles;
+        private final long builtAt;
+        // D-Day 계산 기준일
+        private final LocalDate builtDate;
+
+        private Snapshot(List<MainMissionDtoV2> mainMissions, List<PopularArticleDtoV2> popularArticles) {
+            this.mainMissions = Collections.unmodifiableList(mainMissions);
+            this.popularArticles = Collections.unmodifiableList(popularArticles);
+            this.builtAt = System.currentTimeMillis();
+            this.builtDate = LocalDate.now();
+        }
+
+        private boolean isFresh(long ttlMillis) {
+            return System.currentTimeMillis() - builtAt < ttlMillis && builtDate.equals(LocalDate.now());
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package rabbit.umc.com.demo.community.article.service;
+
+/**
+ * 커뮤니티 홈 화면(메인 미션 1등, 인기 게시물)에 영향을 주는 변경 발생시 발행
+ */
+public class CommunityHomeChangedEvent {
+}
@@ -2,10 +2,15 @@ package rabbit.umc.com.demo.community.category;
 
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import rabbit.umc.com.demo.community.domain.Category;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category,Long> {
     List<Category> findAllByUserId(Long userId);
+
+    @Query("SELECT c.id FROM Category c WHERE c.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
 }
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 import rabbit.umc.com.demo.base.BaseTimeEntity;
 import rabbit.umc.com.demo.base.Status;
 
@@ -18,6 +19,7 @@ import rabbit.umc.com.demo.user.Domain.User;
 
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static javax.persistence.CascadeType.*;
@@ -29,7 +31,13 @@ import static javax.persistence.GenerationType.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "article")
+@DynamicUpdate
+@Table(name = "article", indexes = {
+        @Index(name = "idx_article_popular", columnList = "status, popular, created_at"),
+        @Index(name = "idx_article_category_cursor", columnList = "category_id, status, created_at, article_id"),
+        // 검색 색인 동기화 (updatedAt 워터마크)
+        @Index(name = "idx_article_updated_at", columnList = "updated_at")
+})
 public class Article extends BaseTimeEntity {
     @Id@GeneratedValue(strategy = IDENTITY)
     @Column(name = "article_id")
@@ -65,6 +73,23 @@ public class Article extends BaseTimeEntity {
     @Column(columnDefinition = "VARCHAR(15) DEFAULT 'ACTIVE'")
     private Status status;
 
+    // 좋아요, 댓글 수 (ArticleRepository 의 UPDATE 쿼리로만 증감)
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int likeCount;
+
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int commentCount;
+
+    // 인기 게시물 여부 (좋아요 수가 기준을 넘을 때 ArticleRepository 에서 갱신)
+    @Column(nullable = false, columnDefinition = "BIT DEFAULT 0")
+    private boolean popular;
+
+    private LocalDateTime popularAt;
+
+    // 신고 수 (신고 저장시 UPDATE 쿼리로만 증가, 기준 이상이면 같은 쿼리에서 비활성화)
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int reportCount;
+
     public void setInactive(){
         this.status = Status.INACTIVE;
     }
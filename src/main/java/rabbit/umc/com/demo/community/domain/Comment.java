@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import rabbit.umc.com.demo.base.BaseTimeEntity;
 import rabbit.umc.com.demo.base.Status;
 import rabbit.umc.com.demo.user.Domain.User;
@@ -18,7 +19,10 @@ import static rabbit.umc.com.demo.base.Status.INACTIVE;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "comments")
+@DynamicUpdate
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_article_cursor", columnList = "article_id, created_at, comments_id")
+})
 public class Comment extends BaseTimeEntity {
 
     private static final String GOOD_COMMENT_MESSAGE = "착한 말을 쓰자!";
@@ -42,6 +46,10 @@ public class Comment extends BaseTimeEntity {
     @Column(columnDefinition = "VARCHAR(15) DEFAULT 'ACTIVE'")
     private Status status;
 
+    // 신고 수 (신고 저장시 UPDATE 쿼리로만 증가, 기준 이상이면 같은 쿼리에서 비활성화)
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int reportCount;
+
     //비즈니스 로직
     public void lockComment(){
         this.status = Status.INACTIVE;
@@ -16,7 +16,8 @@ import static javax.persistence.GenerationType.IDENTITY;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-@Table(name = "like_article")
+@Table(name = "like_article",
+        uniqueConstraints = @UniqueConstraint(name = "uk_like_article_user_article", columnNames = {"user_id", "article_id"}))
 public class LikeArticle extends BaseTimeEntity {
     @Id@GeneratedValue(strategy = IDENTITY)
     @Column(name = "like_article_id")
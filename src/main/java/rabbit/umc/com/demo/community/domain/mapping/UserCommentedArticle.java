@@ -0,0 +1,46 @@
+package rabbit.umc.com.demo.community.domain.mapping;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import rabbit.umc.com.demo.base.BaseTimeEntity;
+import rabbit.umc.com.demo.community.domain.Article;
+import rabbit.umc.com.demo.user.Domain.User;
+import javax.persistence.*;
+import static javax.persistence.GenerationType.IDENTITY;
+
+/**
+ * 유저가 댓글을 남긴 게시물 (마이페이지 댓글단 글 목록용)
+ * CommentService 의 댓글 작성/삭제시 UserCommentedArticleRepository 쿼리로만 갱신
+ */
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "user_commented_article",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_commented_article", columnNames = {"user_id", "article_id"}),
+        indexes = @Index(name = "idx_user_commented_article_cursor", columnList = "user_id, last_commented_at, article_id"))
+public class UserCommentedArticle extends BaseTimeEntity {
+    @Id@GeneratedValue(strategy = IDENTITY)
+    @Column(name = "user_commented_article_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "article_id", nullable = false)
+    private Article article;
+
+    // 해당 게시물에 남긴 마지막 댓글 작성 시간
+    @Column(nullable = false)
+    private LocalDateTime lastCommentedAt;
+
+    // 해당 게시물에 남긴 댓글 수, 0 이 되면 row 삭제
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int commentCount;
+}
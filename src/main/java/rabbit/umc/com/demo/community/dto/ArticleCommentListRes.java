@@ -0,0 +1,21 @@
+package rabbit.umc.com.demo.community.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import rabbit.umc.com.demo.community.dto.ArticleRes.CommentDto;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleCommentListRes {
+    private List<CommentDto> commentList;
+
+    // 다음 댓글 페이지 커서 (마지막 페이지면 null)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+}
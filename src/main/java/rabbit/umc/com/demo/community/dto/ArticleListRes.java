@@ -1,5 +1,6 @@
 package rabbit.umc.com.demo.community.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -18,6 +19,10 @@ public class ArticleListRes {
     private Long categoryHostId;
     List<ArticleDto> articleLists;
 
+    // 커서 페이징 조회시 다음 페이지 커서 (마지막 페이지면 null)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
 
 
     @Builder
@@ -1,5 +1,6 @@
 package rabbit.umc.com.demo.community.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -26,6 +27,10 @@ public class ArticleRes {
     private List<ArticleImageDto> articleImage;
     private List<CommentDto> commentList;
 
+    // 나머지 댓글 조회용 커서 (댓글이 더 없으면 null)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCommentCursor;
+
     @Builder
     @Getter
     @NoArgsConstructor
@@ -0,0 +1,23 @@
+package rabbit.umc.com.demo.community.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import rabbit.umc.com.demo.community.dto.ArticleListRes.ArticleDto;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ArticleSearchRes {
+
+    // 검색 점수순
+    private List<ArticleDto> articleLists;
+
+    // 다음 페이지 커서 (마지막 페이지면 null)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+}
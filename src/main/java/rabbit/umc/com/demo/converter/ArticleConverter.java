@@ -7,11 +7,13 @@ import rabbit.umc.com.demo.community.domain.Article;
 import rabbit.umc.com.demo.community.domain.Category;
 import rabbit.umc.com.demo.image.domain.Image;
 import rabbit.umc.com.demo.community.domain.mapping.LikeArticle;
+import rabbit.umc.com.demo.community.dto.ArticleCommentListRes;
 import rabbit.umc.com.demo.community.dto.ArticleListRes;
 import rabbit.umc.com.demo.community.dto.ArticleListRes.ArticleDto;
 import rabbit.umc.com.demo.community.dto.ArticleRes;
 import rabbit.umc.com.demo.community.dto.ArticleRes.ArticleImageDto;
 import rabbit.umc.com.demo.community.dto.ArticleRes.CommentDto;
+import rabbit.umc.com.demo.community.dto.ArticleSearchRes;
 import rabbit.umc.com.demo.community.dto.CommunityHomeRes;
 import rabbit.umc.com.demo.community.dto.CommunityHomeRes.MainMissionDto;
 import rabbit.umc.com.demo.community.dto.CommunityHomeRes.PopularArticleDto;
@@ -32,7 +34,7 @@ public class ArticleConverter {
                         .articleId(article.getId())
                         .articleTitle(article.getTitle())
                         .uploadTime(article.getCreatedAt().format(DATE_TIME_FORMATTER))
-                        .likeCount(article.getLikeArticles().size())
+                        .likeCount(article.getLikeCount())
                         .build())
                 .collect(Collectors.toList());
     }
@@ -53,7 +55,7 @@ public class ArticleConverter {
                         .articleId(article.getId())
                         .articleTitle(article.getTitle())
                         .uploadTime(article.getCreatedAt().format(DATE_TIME_FORMATTER))
-                        .likeCount(article.getLikeArticles().size())
+                        .likeCount(article.getLikeCount())
                         .build())
                 .collect(Collectors.toList());
 
@@ -66,8 +68,8 @@ public class ArticleConverter {
                         .articleId(article.getId())
                         .articleTitle(article.getTitle())
                         .uploadTime(DateUtil.makeArticleUploadTime(article.getCreatedAt()))
-                        .likeCount(article.getLikeArticles().size())
-                        .commentCount(article.getComments().size())
+                        .likeCount(article.getLikeCount())
+                        .commentCount(article.getCommentCount())
                         .build())
                 .collect(Collectors.toList());
     }
@@ -79,18 +81,30 @@ public class ArticleConverter {
                         .articleId(article.getId())
                         .articleTitle(article.getTitle())
                         .uploadTime(article.getCreatedAt().format(DATE_TIME_FORMATTER))
-                        .likeCount(article.getLikeArticles().size())
-                        .commentCount(article.getComments().size())
+                        .likeCount(article.getLikeCount())
+                        .commentCount(article.getCommentCount())
                         .build())
                 .collect(Collectors.toList());
     }
 
     public static ArticleListRes toArticleListRes(Category category, MainMission mainMission, List<Article> articlePage){
+        return toArticleListRes(category, mainMission, articlePage, null);
+    }
+
+    public static ArticleListRes toArticleListRes(Category category, MainMission mainMission, List<Article> articlePage, String nextCursor){
         return ArticleListRes.builder()
                 .categoryImage(category.getImage())
                 .mainMissionId(mainMission.getId())
                 .categoryHostId(category.getUser().getId())
                 .articleLists(ArticleConverter.toArticleDto(articlePage))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    public static ArticleSearchRes toArticleSearchRes(List<Article> articles, String nextCursor){
+        return ArticleSearchRes.builder()
+                .articleLists(ArticleConverter.toArticleDto(articles))
+                .nextCursor(nextCursor)
                 .build();
     }
 
@@ -101,7 +115,11 @@ public class ArticleConverter {
                 .build();
     }
 
-    public static ArticleRes toArticleRes(Article article, Boolean isLike,List<ArticleImageDto> articleImages, List<CommentDto> commentLists ){
+    public static ArticleRes toArticleRes(Article article, Boolean isLike, List<ArticleImageDto> articleImages, ArticleCommentListRes commentPage){
+        return toArticleRes(article, isLike, articleImages, commentPage.getCommentList(), commentPage.getNextCursor());
+    }
+
+    public static ArticleRes toArticleRes(Article article, Boolean isLike, List<ArticleImageDto> articleImages, List<CommentDto> commentLists, String nextCommentCursor){
         return ArticleRes.builder()
                 .categoryName(article.getCategory().getName())
                 .articleId(article.getId())
@@ -114,8 +132,9 @@ public class ArticleConverter {
                 .likeArticle(isLike)
                 .articleImage(articleImages)
                 .commentList(commentLists)
-                .likeCount(article.getLikeArticles().size())
-                .commentCount(article.getComments().size())
+                .nextCommentCursor(nextCommentCursor)
+                .likeCount(article.getLikeCount())
+                .commentCount(article.getCommentCount())
                 .build();
     }
 
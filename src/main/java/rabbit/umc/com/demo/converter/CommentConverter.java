@@ -3,6 +3,7 @@ package rabbit.umc.com.demo.converter;
 import java.util.List;
 import java.util.stream.Collectors;
 import rabbit.umc.com.demo.community.domain.Comment;
+import rabbit.umc.com.demo.community.dto.ArticleCommentListRes;
 import rabbit.umc.com.demo.community.dto.ArticleRes.CommentDto;
 
 public class CommentConverter {
@@ -16,4 +17,13 @@ public class CommentConverter {
                 .userPermission(comment.getUser().getUserPermission().name())
                 .build();
     }
+
+    public static ArticleCommentListRes toArticleCommentListRes(List<Comment> comments, String nextCursor){
+        return ArticleCommentListRes.builder()
+                .commentList(comments.stream()
+                        .map(CommentConverter::toCommentDto)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .build();
+    }
 }
@@ -1,9 +1,7 @@
 package rabbit.umc.com.demo.converter;
 
 import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import rabbit.umc.com.demo.base.Status;
@@ -12,13 +10,18 @@ import rabbit.umc.com.demo.community.dto.CommunityHomeRes.MainMissionDto;
 import rabbit.umc.com.demo.community.dto.CommunityHomeResV2.MainMissionDtoV2;
 import rabbit.umc.com.demo.mainmission.domain.MainMission;
 import rabbit.umc.com.demo.mainmission.domain.mapping.LikeMissionProof;
+import rabbit.umc.com.demo.mainmission.domain.MainMissionRollover;
+import rabbit.umc.com.demo.mainmission.domain.RolloverStatus;
+import rabbit.umc.com.demo.mainmission.domain.ScoreReason;
 import rabbit.umc.com.demo.mainmission.domain.mapping.MainMissionProof;
+import rabbit.umc.com.demo.mainmission.domain.mapping.MainMissionScoreLedger;
 import rabbit.umc.com.demo.mainmission.domain.mapping.MainMissionUsers;
 import rabbit.umc.com.demo.mainmission.dto.GetMainMissionRes;
 import rabbit.umc.com.demo.mainmission.dto.GetMainMissionRes.MissionProofImageDto;
 import rabbit.umc.com.demo.mainmission.dto.GetMainMissionRes.RankDto;
 import rabbit.umc.com.demo.mainmission.dto.MainMissionViewRes;
 import rabbit.umc.com.demo.mainmission.dto.PostMainMissionReq;
+import rabbit.umc.com.demo.mainmission.repository.MainMissionProofRepository.ProofGalleryItem;
 import rabbit.umc.com.demo.user.Domain.User;
 import rabbit.umc.com.utils.DateUtil;
 
@@ -40,14 +43,14 @@ public class MainMissionConverter {
                 .collect(Collectors.toList());
     }
 
-    public static List<MissionProofImageDto> toMissionProofImageDto(List<MainMissionProof> mainMissionProofs){
-        return mainMissionProofs
+    public static List<MissionProofImageDto> toMissionProofImageDto(List<ProofGalleryItem> galleryItems){
+        return galleryItems
                 .stream()
-                .map(mainMissionProof -> MissionProofImageDto.builder()
-                        .imageId(mainMissionProof.getId())
-                        .userId(mainMissionProof.getUser().getId())
-                        .filePath(mainMissionProof.getProofImage())
-                        .likeCount(mainMissionProof.getLikeMissionProofs().size())
+                .map(item -> MissionProofImageDto.builder()
+                        .imageId(item.getProofId())
+                        .userId(item.getUserId())
+                        .filePath(item.getFilePath())
+                        .likeCount(item.getLikeCount())
                         .isLike(false)
                         .build())
                 .collect(Collectors.toList());
@@ -84,18 +87,31 @@ public class MainMissionConverter {
                 .build();
     }
 
-    public static MainMissionUsers toMainMissionUsers(User user, MainMission mainMission){
-        return MainMissionUsers.builder()
+    public static MainMissionProof toMainMissionProof(String filePath, User user, MainMission mainMission, int missionDay){
+        return MainMissionProof.builder()
+                .proofImage(filePath)
                 .user(user)
                 .mainMission(mainMission)
+                .missionDay(missionDay)
+                .status(Status.ACTIVE)
                 .build();
     }
 
-    public static MainMissionProof toMainMissionProof(String filePath, User user, MainMission mainMission){
-        return MainMissionProof.builder()
-                .proofImage(filePath)
-                .user(user)
-                .mainMission(mainMission)
+    public static MainMissionScoreLedger toUploadScoreLedger(MainMissionProof mainMissionProof){
+        return MainMissionScoreLedger.builder()
+                .mainMissionId(mainMissionProof.getMainMission().getId())
+                .userId(mainMissionProof.getUser().getId())
+                .delta(MainMissionUsers.PROOF_SCORE)
+                .reason(ScoreReason.PROOF_UPLOAD)
+                .sourceId(mainMissionProof.getId())
+                .build();
+    }
+
+    public static MainMissionRollover toMainMissionRollover(Long mainMissionId, Long categoryId){
+        return MainMissionRollover.builder()
+                .mainMissionId(mainMissionId)
+                .categoryId(categoryId)
+                .status(RolloverStatus.FAILED)
                 .build();
     }
 
@@ -110,20 +126,12 @@ public class MainMissionConverter {
                 .build();
     }
 
-    public static MainMissionDtoV2 toMainMissionDtoV2(MainMission mainMission) {
-        List<MainMissionUsers> mainMissionUsers = mainMission.getMainMissionUsers();
-
-        Optional<MainMissionUsers> topRankUser = mainMissionUsers.stream()
-                .max(Comparator.comparingInt(MainMissionUsers::getScore));
-
-        String name = topRankUser.map(user -> user.getUser().getUserName()).orElse("없음");
-
-
+    public static MainMissionDtoV2 toMainMissionDtoV2(MainMission mainMission, String topRankUserName) {
         return MainMissionDtoV2.builder()
                 .mainMissionId(mainMission.getId())
                 .mainMissionTitle(mainMission.getTitle())
                 .dDay(DateUtil.calculateDDay(mainMission.getEndAt()))
-                .topRankUser(name)
+                .topRankUser(topRankUserName)
                 .missionCategoryId(mainMission.getCategory().getId())
                 .build();
     }
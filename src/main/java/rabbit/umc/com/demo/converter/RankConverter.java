@@ -1,14 +1,46 @@
 package rabbit.umc.com.demo.converter;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import rabbit.umc.com.demo.mainmission.domain.mapping.MainMissionUsers;
 import rabbit.umc.com.demo.mainmission.dto.GetMainMissionRes.RankDto;
+import rabbit.umc.com.demo.mainmission.dto.GetMyRankRes;
+import rabbit.umc.com.demo.mainmission.service.RankTree.RankEntry;
+import rabbit.umc.com.demo.user.Domain.User;
 
 public class RankConverter {
 
     public static RankDto toRankDto(MainMissionUsers missionUsers){
         return RankDto.builder()
-                .userId(missionUsers.getId())
+                .userId(missionUsers.getUser().getId())
                 .userName(missionUsers.getUser().getUserName())
+                .score(missionUsers.getScore())
+                .build();
+    }
+
+    public static RankDto toRankDto(RankEntry entry, String userName){
+        return RankDto.builder()
+                .userId(entry.getUserId())
+                .userName(userName)
+                .rank(entry.getRank())
+                .score(entry.getScore())
+                .build();
+    }
+
+    public static List<RankDto> toRankDtoList(List<RankEntry> entries, Map<Long, String> userNames){
+        return entries.stream()
+                .map(entry -> toRankDto(entry, userNames.get(entry.getUserId())))
+                .collect(Collectors.toList());
+    }
+
+    public static GetMyRankRes toGetMyRankRes(Long mainMissionId, RankEntry myRank, int participantCount, List<RankDto> aroundRank){
+        return GetMyRankRes.builder()
+                .mainMissionId(mainMissionId)
+                .rank(myRank == null ? 0 : myRank.getRank())
+                .score(myRank == null ? 0 : myRank.getScore())
+                .participantCount(participantCount)
+                .aroundRank(aroundRank)
                 .build();
     }
 }
@@ -1,6 +1,7 @@
 package rabbit.umc.com.demo.converter;
 
 import rabbit.umc.com.demo.community.domain.Article;
+import rabbit.umc.com.demo.community.domain.Comment;
 import rabbit.umc.com.demo.mainmission.domain.mapping.MainMissionProof;
 import rabbit.umc.com.demo.report.Report;
 import rabbit.umc.com.demo.user.Domain.User;
@@ -14,6 +15,13 @@ public class ReportConverter {
                 .build();
     }
 
+    public static Report toCommentReport(User user, Comment comment){
+        return Report.builder()
+                .user(user)
+                .comment(comment)
+                .build();
+    }
+
     public static Report toMissionProofReport(User user, MainMissionProof mainMissionProof){
         return Report.builder()
                 .user(user)
@@ -1,6 +1,9 @@
 package rabbit.umc.com.demo.image.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import rabbit.umc.com.demo.image.domain.Image;
 
@@ -11,5 +14,10 @@ public interface ImageRepository extends JpaRepository<Image, Long> {
 
     List<Image> findAllByArticleId(Long articleId);
 
+    @Query("SELECT i.filePath FROM Image i WHERE i.article.id = :articleId")
+    List<String> findFilePathsByArticleId(@Param("articleId") Long articleId);
 
+    @Modifying
+    @Query("DELETE FROM Image i WHERE i.article.id = :articleId")
+    int bulkDeleteByArticleId(@Param("articleId") Long articleId);
 }
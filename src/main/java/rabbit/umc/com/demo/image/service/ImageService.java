@@ -3,7 +3,9 @@ package rabbit.umc.com.demo.image.service;
 import com.amazonaws.services.s3.AmazonS3;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -17,6 +19,7 @@ import rabbit.umc.com.demo.image.repository.ImageRepository;
 import rabbit.umc.com.demo.image.uuid.Uuid;
 import rabbit.umc.com.demo.image.uuid.UuidRepository;
 import rabbit.umc.com.s3.AmazonS3Manager;
+import rabbit.umc.com.s3.S3ObjectDeleteEvent;
 
 @Service
 @Transactional(readOnly = true)
@@ -29,6 +32,7 @@ public class ImageService {
     private final AmazonS3Manager s3Manager;
     private final UuidRepository uuidRepository;
     private final AmazonS3 amazonS3;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Uuid makeUuid(){
@@ -69,11 +73,13 @@ public class ImageService {
     public void deleteImages(List<Long> imageId){
         List<Image> images = imageRepository.findAllById(imageId);
 
-        for (Image image : images) {
-            s3Manager.delete(image.getFilePath());
-        }
+        imageRepository.deleteAllInBatch(images);
 
-        imageRepository.deleteAll(images);
+        // S3 파일은 커밋 후 S3ObjectDeleter 가 모아서 삭제
+        List<String> filePaths = images.stream()
+                .map(Image::getFilePath)
+                .collect(Collectors.toList());
+        eventPublisher.publishEvent(new S3ObjectDeleteEvent(filePaths));
     }
 
     public Image findById(Long id) throws BaseException {
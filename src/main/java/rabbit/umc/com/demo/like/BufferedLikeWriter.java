@@ -0,0 +1,123 @@
+package rabbit.umc.com.demo.like;
+
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.support.TransactionTemplate;
+import rabbit.umc.com.demo.like.LikeBuffer.LikeKey;
+
+/**
+ * 좋아요 요청을 LikeBuffer 에 모았다가 주기적으로 batch insert/delete 로 반영
+ * 하위 클래스는 테이블별 SQL 과 반영 후 후처리(카운터, 점수)만 정의한다.
+ * 반영은 @Scheduled 배치 작업과 스레드를 나눠 쓰도록 flushTaskScheduler 에서 돈다.
+ */
+@Slf4j
+public abstract class BufferedLikeWriter {
+    private final LikeBuffer likeBuffer = new LikeBuffer();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler flushTaskScheduler;
+    private final long flushDelayMillis;
+
+    protected BufferedLikeWriter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                 TaskScheduler flushTaskScheduler, long flushDelayMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.flushTaskScheduler = flushTaskScheduler;
+        this.flushDelayMillis = flushDelayMillis;
+    }
+
+    @PostConstruct
+    public void startFlushing() {
+        flushTaskScheduler.scheduleWithFixedDelay(this::flush, Duration.ofMillis(flushDelayMillis));
+    }
+
+    // (user_id, target_id) 순서의 파라미터를 받는 INSERT IGNORE 문
+    protected abstract String insertSql();
+
+    // (user_id, target_id) 순서의 파라미터를 받는 DELETE 문
+    protected abstract String deleteSql();
+
+    protected abstract boolean existsInDb(Long userId, Long targetId);
+
+    // 실제 반영된 좋아요 증감량 후처리
+    protected abstract void applyDelta(Long targetId, int delta);
+
+    public boolean like(Long userId, Long targetId) {
+        return likeBuffer.toggle(userId, targetId, true, () -> existsInDb(userId, targetId));
+    }
+
+    public boolean unlike(Long userId, Long targetId) {
+        return likeBuffer.toggle(userId, targetId, false, () -> existsInDb(userId, targetId));
+    }
+
+    public boolean isLiked(Long userId, Long targetId) {
+        return likeBuffer.isLiked(userId, targetId, () -> existsInDb(userId, targetId));
+    }
+
+    public Boolean bufferedState(Long userId, Long targetId) {
+        return likeBuffer.bufferedState(userId, targetId);
+    }
+
+    public synchronized void flush() {
+        Map<LikeKey, Boolean> drained = likeBuffer.drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(drained));
+            likeBuffer.commit();
+        } catch (RuntimeException e) {
+            log.error("좋아요 버퍼 반영 실패, 다음 주기에 재시도합니다. size: {}", drained.size(), e);
+            likeBuffer.rollback();
+        }
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+    }
+
+    private void write(Map<LikeKey, Boolean> drained) {
+        List<LikeKey> likes = new ArrayList<>();
+        List<LikeKey> unlikes = new ArrayList<>();
+        drained.forEach((key, like) -> (like ? likes : unlikes).add(key));
+
+        Map<Long, Integer> deltas = new HashMap<>();
+        executeBatch(insertSql(), likes, 1, deltas);
+        executeBatch(deleteSql(), unlikes, -1, deltas);
+
+        deltas.forEach((targetId, delta) -> {
+            if (delta != 0) {
+                applyDelta(targetId, delta);
+            }
+        });
+    }
+
+    private void executeBatch(String sql, List<LikeKey> keys, int sign, Map<Long, Integer> deltas) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = keys.stream()
+                .map(key -> new Object[]{key.getUserId(), key.getTargetId()})
+                .collect(Collectors.toList());
+        int[] results = jdbcTemplate.batchUpdate(sql, args);
+
+        // 중복 insert, 이미 없는 row delete 는 0 으로 돌아오므로 카운터에서 제외
+        for (int i = 0; i < results.length; i++) {
+            int affected = results[i] == Statement.SUCCESS_NO_INFO ? 1 : results[i];
+            if (affected > 0) {
+                deltas.merge(keys.get(i).getTargetId(), sign * affected, Integer::sum);
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package rabbit.umc.com.demo.like;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * 좋아요/좋아요 취소 쓰기 지연 버퍼
+ * 대상 id 기준으로 stripe 를 나눠 락을 잡고, (유저, 대상) 별 최종 상태만 보관해 토글을 상쇄한다.
+ * 상태 조회 순서 : 대기중(pending) -> DB 반영중(inflight) -> DB
+ */
+public class LikeBuffer {
+    private static final int STRIPE_COUNT = 32;
+
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+
+    public LikeBuffer() {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * 좋아요 상태 변경 요청
+     * @param persisted 버퍼에 상태가 없을 때 DB 의 좋아요 여부
+     * @return 상태가 바뀌었으면 true, 이미 요청한 상태라면 false
+     */
+    public boolean toggle(Long userId, Long targetId, boolean like, BooleanSupplier persisted) {
+        LikeKey key = new LikeKey(userId, targetId);
+        Stripe stripe = stripeOf(targetId);
+        synchronized (stripe) {
+            Boolean buffered = stripe.stateOf(key);
+            boolean liked = buffered != null ? buffered : persisted.getAsBoolean();
+            if (liked == like) {
+                return false;
+            }
+            // 대기중인 반대 요청이 있었다면 서로 상쇄
+            if (stripe.pending.remove(key) == null) {
+                stripe.pending.put(key, like);
+            }
+            return true;
+        }
+    }
+
+    public boolean isLiked(Long userId, Long targetId, BooleanSupplier persisted) {
+        Boolean buffered = bufferedState(userId, targetId);
+        return buffered != null ? buffered : persisted.getAsBoolean();
+    }
+
+    /**
+     * 버퍼에 남아있는 좋아요 여부, 없으면 null
+     */
+    public Boolean bufferedState(Long userId, Long targetId) {
+        Stripe stripe = stripeOf(targetId);
+        synchronized (stripe) {
+            return stripe.stateOf(new LikeKey(userId, targetId));
+        }
+    }
+
+    /**
+     * 대기중인 요청을 모두 꺼내 DB 반영중 상태로 옮김
+     */
+    public Map<LikeKey, Boolean> drain() {
+        Map<LikeKey, Boolean> drained = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.inflight.putAll(stripe.pending);
+                drained.putAll(stripe.pending);
+                stripe.pending.clear();
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * DB 반영 성공
+     */
+    public void commit() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.inflight.clear();
+            }
+        }
+    }
+
+    /**
+     * DB 반영 실패시 반영중이던 요청을 다시 대기열로 되돌림
+     */
+    public void rollback() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.inflight.forEach((key, like) -> {
+                    if (stripe.pending.remove(key) == null) {
+                        stripe.pending.put(key, like);
+                    }
+                });
+                stripe.inflight.clear();
+            }
+        }
+    }
+
+    private Stripe stripeOf(Long targetId) {
+        return stripes[Math.floorMod(targetId.hashCode(), STRIPE_COUNT)];
+    }
+
+    private static class Stripe {
+        private final Map<LikeKey, Boolean> pending = new HashMap<>();
+        private final Map<LikeKey, Boolean> inflight = new HashMap<>();
+
+        private Boolean stateOf(LikeKey key) {
+            Boolean state = pending.get(key);
+            return state != null ? state : inflight.get(key);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class LikeKey {
+        private Long userId;
+        private Long targetId;
+    }
+}
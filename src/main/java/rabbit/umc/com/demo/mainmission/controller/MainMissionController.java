@@ -20,6 +20,7 @@ import rabbit.umc.com.config.apiPayload.BaseException;
 import rabbit.umc.com.config.apiPayload.BaseResponse;
 import rabbit.umc.com.demo.mainmission.service.MainMissionService;
 import rabbit.umc.com.demo.mainmission.dto.GetMainMissionRes;
+import rabbit.umc.com.demo.mainmission.dto.GetMyRankRes;
 import rabbit.umc.com.demo.mainmission.dto.MainMissionViewRes;
 import rabbit.umc.com.demo.mainmission.dto.PostMainMissionReq;
 import rabbit.umc.com.utils.JwtService;
@@ -63,6 +64,34 @@ public class MainMissionController {
         }
     }
 
+    /**
+     * 메인 미션 내 순위 조회
+     * @param mainMissionId
+     * @return
+     * @throws BaseException
+     */
+    @Tag(name = "mainMissionMyRank")
+    @Operation(summary = "메인 미션 내 순위 조회 API")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200",description = "OK, 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "JWT4001", description = "JWT 토큰을 주세요!",content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "JWT4002", description = "JWT 토큰 만료",content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "MISSION4001", description = "메인미션 존재 안함",content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+    })
+    @Parameters({
+            @Parameter(name = "mainMissionId", description = "순위를 조회할 메인미션 id 입니다. 내 순위와 앞뒤 2명씩 조회됩니다"),
+    })
+    @GetMapping("/main-mission/{mainMissionId}/rank/me")
+    public BaseResponse<GetMyRankRes> getMyRank(@PathVariable("mainMissionId") Long mainMissionId) throws BaseException{
+        try {
+            Long userId = (long) jwtService.getUserIdx();
+            GetMyRankRes getMyRankRes = mainMissionService.getMyRank(mainMissionId, userId);
+            return new BaseResponse<>(getMyRankRes);
+        }catch (BaseException exception){
+            return new BaseResponse<>(exception.getStatus());
+        }
+    }
+
     /**
      * 메인 미션 인증 사진 좋아요
      * @param mainMissionProofId
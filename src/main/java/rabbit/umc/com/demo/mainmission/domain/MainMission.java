@@ -12,6 +12,7 @@ import rabbit.umc.com.demo.community.domain.Category;
 
 import javax.persistence.*;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import rabbit.umc.com.demo.community.domain.mapping.LikeArticle;
 import rabbit.umc.com.demo.mainmission.domain.mapping.MainMissionUsers;
 
@@ -58,5 +59,14 @@ public class MainMission extends BaseTimeEntity {
         this.status = Status.INACTIVE;
     }
 
+    // 미션 시작일이 1일차
+    public int dayOf(LocalDate date){
+        return dayOf(startAt, date);
+    }
+
+    public static int dayOf(LocalDate startAt, LocalDate date){
+        return (int) ChronoUnit.DAYS.between(startAt, date) + 1;
+    }
+
 
 }
@@ -0,0 +1,75 @@
+package rabbit.umc.com.demo.mainmission.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import rabbit.umc.com.demo.base.BaseTimeEntity;
+import javax.persistence.*;
+import static javax.persistence.GenerationType.IDENTITY;
+
+/**
+ * 종료된 메인 미션의 묘집사 변경 처리 결과 (자정 배치 체크포인트)
+ * DONE, NO_PARTICIPANT 인 미션은 다시 실행해도 건너뛴다.
+ */
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "main_mission_rollover",
+        uniqueConstraints = @UniqueConstraint(name = "uk_main_mission_rollover_mission", columnNames = "main_mission_id"))
+public class MainMissionRollover extends BaseTimeEntity {
+    @Id @GeneratedValue(strategy = IDENTITY)
+    @Column(name = "main_mission_rollover_id")
+    private Long id;
+
+    @Column(name = "main_mission_id", nullable = false)
+    private Long mainMissionId;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private RolloverStatus status;
+
+    // 새 묘집사
+    private Long winnerUserId;
+
+    private int attempts;
+
+    // 마지막 시도에 걸린 시간
+    private long durationMs;
+
+    @Column(length = 500)
+    private String errorMessage;
+
+    // 마지막으로 처리한 서버의 lease token, 더 작은 token 으로는 덮어쓰지 않음
+    private long fencingToken;
+
+    // 같은 미션을 두 서버가 동시에 처리하면 늦게 커밋하는 쪽 실패
+    @Version
+    private Long version;
+
+    public boolean isFencedOff(long token){
+        return fencingToken > token;
+    }
+
+    public void finish(RolloverStatus status, Long winnerUserId, long durationMs, long fencingToken){
+        this.fencingToken = fencingToken;
+        this.status = status;
+        this.winnerUserId = winnerUserId;
+        this.durationMs = durationMs;
+        this.errorMessage = null;
+        this.attempts++;
+    }
+
+    public void fail(String errorMessage, long durationMs, long fencingToken){
+        this.fencingToken = fencingToken;
+        this.status = RolloverStatus.FAILED;
+        this.durationMs = durationMs;
+        this.errorMessage = errorMessage == null || errorMessage.length() <= 500 ? errorMessage : errorMessage.substring(0, 500);
+        this.attempts++;
+    }
+}
@@ -0,0 +1,7 @@
+package rabbit.umc.com.demo.mainmission.domain;
+
+public enum RolloverStatus {
+    DONE,            // 묘집사 변경 완료
+    NO_PARTICIPANT,  // 참여자가 없어 묘집사 유지
+    FAILED           // 실패, 다음 실행 때 다시 시도
+}
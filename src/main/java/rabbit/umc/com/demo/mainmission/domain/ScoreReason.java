@@ -0,0 +1,6 @@
+package rabbit.umc.com.demo.mainmission.domain;
+
+public enum ScoreReason {
+    PROOF_UPLOAD,   // 인증 사진 업로드 +10
+    PROOF_LIKE_NET  // 인증 사진 좋아요 순증감 (flush 주기 동안의 좋아요 +1, 취소 -1 합계)
+}
@@ -17,7 +17,8 @@ import static javax.persistence.GenerationType.IDENTITY;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "like_mission_proof")
+@Table(name = "like_mission_proof",
+        uniqueConstraints = @UniqueConstraint(name = "uk_like_mission_proof_user_proof", columnNames = {"user_id", "main_mission_proof_id"}))
 public class LikeMissionProof extends BaseTimeEntity {
     @Id@GeneratedValue(strategy = IDENTITY)
     @Column(name ="like_mission_proof_id")
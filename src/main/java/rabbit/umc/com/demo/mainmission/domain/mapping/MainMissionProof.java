@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 import rabbit.umc.com.demo.base.BaseTimeEntity;
 import rabbit.umc.com.demo.base.Status;
 import rabbit.umc.com.demo.mainmission.domain.MainMission;
@@ -21,7 +22,10 @@ import static javax.persistence.GenerationType.IDENTITY;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "main_mission_proof")
+@DynamicUpdate
+// (user_id, main_mission_id, mission_day) 유니크 키는 일차를 채운 뒤 MainMissionProofDayUniqueMigration 이 추가
+@Table(name = "main_mission_proof",
+        indexes = @Index(name = "idx_main_mission_proof_day", columnList = "main_mission_id, mission_day, status"))
 public class MainMissionProof extends BaseTimeEntity {
     @Id@GeneratedValue(strategy = IDENTITY)
     @Column(name = "main_mission_proof_id")
@@ -34,6 +38,14 @@ public class MainMissionProof extends BaseTimeEntity {
     @JoinColumn(name = "main_mission_id", nullable = false)
     private MainMission mainMission;
 
+    // 업로드한 날의 미션 일차 (시작일이 1일차)
+    @Column(name = "mission_day", nullable = false)
+    private int missionDay;
+
+    // 좋아요 수 (MissionProofLikeWriter 가 UPDATE 쿼리로만 증감)
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int likeCount;
+
     @OneToMany(mappedBy = "mainMissionProof", cascade = ALL)
     private List<LikeMissionProof> likeMissionProofs;
 
@@ -45,6 +57,10 @@ public class MainMissionProof extends BaseTimeEntity {
     @Column(columnDefinition = "VARCHAR(15) DEFAULT 'ACTIVE'")
     private Status status;
 
+    // 신고 수 (신고 저장시 UPDATE 쿼리로만 증가, 기준 이상이면 같은 쿼리에서 비활성화)
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int reportCount;
+
     //비즈니스 로직
     public void inActive(){
         status = Status.INACTIVE;
@@ -0,0 +1,45 @@
+package rabbit.umc.com.demo.mainmission.domain.mapping;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import rabbit.umc.com.demo.base.BaseTimeEntity;
+import rabbit.umc.com.demo.mainmission.domain.ScoreReason;
+import javax.persistence.*;
+import static javax.persistence.GenerationType.IDENTITY;
+
+/**
+ * 메인 미션 점수 변경 이력 (insert 만 하고 수정/삭제하지 않음)
+ * MainMissionScoreCompactor 가 주기적으로 main_mission_users.score 에 접어 넣고,
+ * 접힌 위치는 main_mission_users.ledger_watermark 에 남긴다.
+ */
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "main_mission_score_ledger",
+        indexes = @Index(name = "idx_score_ledger_mission_user", columnList = "main_mission_id, user_id, main_mission_score_ledger_id"))
+public class MainMissionScoreLedger extends BaseTimeEntity {
+    @Id @GeneratedValue(strategy = IDENTITY)
+    @Column(name = "main_mission_score_ledger_id")
+    private Long id;
+
+    @Column(name = "main_mission_id", nullable = false)
+    private Long mainMissionId;
+
+    // 점수를 받은 유저
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    private int delta;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private ScoreReason reason;
+
+    // 점수 근거가 된 인증 사진 id
+    @Column(name = "source_id")
+    private Long sourceId;
+}
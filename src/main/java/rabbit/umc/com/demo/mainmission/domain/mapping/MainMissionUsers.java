@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 import rabbit.umc.com.demo.base.BaseTimeEntity;
 import rabbit.umc.com.demo.base.Status;
 import rabbit.umc.com.demo.mainmission.domain.MainMission;
@@ -18,8 +19,13 @@ import static javax.persistence.GenerationType.IDENTITY;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "main_mission_users")
+@DynamicUpdate
+@Table(name = "main_mission_users",
+        uniqueConstraints = @UniqueConstraint(name = "uk_main_mission_users", columnNames = {"user_id", "main_mission_id"}))
 public class MainMissionUsers extends BaseTimeEntity {
+    // 인증 사진 작성시 10점, 좋아요 받을시 1점 (점수 변경은 MainMissionScoreLedger 로만)
+    public static final int PROOF_SCORE = 10;
+
     @Id @GeneratedValue(strategy = IDENTITY)
     @Column(name = "main_mission_user_id")
     private Long id;
@@ -28,8 +34,13 @@ public class MainMissionUsers extends BaseTimeEntity {
     @JoinColumn(name = "user_id")
     private User user;
 
+    // ledger_watermark 까지의 이력이 반영된 점수 스냅샷
     private int score;
 
+    // score 에 접어 넣은 마지막 main_mission_score_ledger id
+    @Column(name = "ledger_watermark", nullable = false)
+    private long ledgerWatermark;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "main_mission_id")
     private MainMission mainMission;
@@ -44,21 +55,4 @@ public class MainMissionUsers extends BaseTimeEntity {
         this.mainMission = mainMission;
     }
 
-    //인증 이미지 작성시 10점
-    public void addProofScore(){
-        this.score += 10;
-    }
-
-    public void deleteProofScore(){
-        this.score -= 10;
-    }
-
-    //좋아요 받을시 1 점
-    public void addLikeScore(){
-        this.score += 1;
-    }
-    public void unLikeScore(){
-        this.score -= 1;
-    }
-
 }
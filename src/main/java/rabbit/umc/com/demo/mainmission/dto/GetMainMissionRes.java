@@ -25,6 +25,8 @@ public class GetMainMissionRes {
     public static class RankDto {
         private Long userId;
         private String userName;
+        private int rank;
+        private int score;
     }
 
     @Getter
@@ -0,0 +1,21 @@
+package rabbit.umc.com.demo.mainmission.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import rabbit.umc.com.demo.mainmission.dto.GetMainMissionRes.RankDto;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GetMyRankRes {
+    private Long mainMissionId;
+    // 참여하지 않았으면 0
+    private int rank;
+    private int score;
+    private int participantCount;
+    private List<RankDto> aroundRank;
+}
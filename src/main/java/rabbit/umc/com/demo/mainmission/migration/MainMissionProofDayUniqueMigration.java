@@ -0,0 +1,56 @@
+package rabbit.umc.com.demo.mainmission.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import rabbit.umc.com.migration.SchemaMigration;
+
+/**
+ * 인증 사진 하루 1장 유니크 키 추가
+ * ddl-auto 가 mission_day 컬럼을 추가하면 기존 row 는 0 으로 채워져, 유니크 키를 먼저 만들면 실패한다.
+ * 일차/좋아요 수를 먼저 채운 뒤 유니크 키를 추가한다.
+ */
+@Slf4j
+@Component
+public class MainMissionProofDayUniqueMigration implements SchemaMigration {
+    private static final String UNIQUE_KEY = "uk_main_mission_proof_user_day";
+
+    private static final String BACKFILL_SQL =
+            "UPDATE main_mission_proof p JOIN main_mission m ON m.main_mission_id = p.main_mission_id " +
+            "SET p.mission_day = DATEDIFF(p.created_at, m.start_at) + 1, " +
+            "p.like_count = (SELECT COUNT(*) FROM like_mission_proof l WHERE l.main_mission_proof_id = p.main_mission_proof_id), " +
+            "p.status = COALESCE(p.status, 'ACTIVE') " +
+            "WHERE p.mission_day = 0";
+    private static final String DUPLICATES_SQL =
+            "SELECT COUNT(*) FROM (SELECT 1 FROM main_mission_proof " +
+            "GROUP BY user_id, main_mission_id, mission_day HAVING COUNT(*) > 1) duplicated";
+    private static final String ADD_UNIQUE_SQL =
+            "ALTER TABLE main_mission_proof ADD CONSTRAINT " + UNIQUE_KEY + " UNIQUE (user_id, main_mission_id, mission_day)";
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public String description() {
+        return "backfill main_mission_proof.mission_day, then add " + UNIQUE_KEY;
+    }
+
+    @Override
+    public void migrate(JdbcTemplate jdbcTemplate) {
+        int filled = jdbcTemplate.update(BACKFILL_SQL);
+        if (filled > 0) {
+            log.info("main mission proof day/like count backfilled: {}", filled);
+        }
+        if (SchemaMigration.indexExists(jdbcTemplate, "main_mission_proof", UNIQUE_KEY)) {
+            return;
+        }
+        // 이전 코드로 같은 날 여러 장 올라간 경우는 정리 전까지 키를 만들 수 없음 (다음 기동 때 다시 시도)
+        Integer duplicated = jdbcTemplate.queryForObject(DUPLICATES_SQL, Integer.class);
+        if (duplicated != null && duplicated > 0) {
+            throw new IllegalStateException("duplicated main mission proofs per day: " + duplicated);
+        }
+        jdbcTemplate.execute(ADD_UNIQUE_SQL);
+    }
+}
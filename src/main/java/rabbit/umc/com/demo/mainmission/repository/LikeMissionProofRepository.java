@@ -2,16 +2,29 @@ package rabbit.umc.com.demo.mainmission.repository;
 
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import rabbit.umc.com.demo.mainmission.domain.mapping.LikeMissionProof;
 import rabbit.umc.com.demo.user.Domain.User;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface LikeMissionProofRepository extends JpaRepository<LikeMissionProof , Long> {
     Optional<LikeMissionProof> findLikeMissionProofByUserAndMainMissionProofId(User user, Long mainMissionProofId);
 
-    List<LikeMissionProof> findLikeMissionProofByUser(User user);
+    // 화면에 나온 인증 사진 중 유저가 좋아요한 것
+    @Query("SELECT l.mainMissionProof.id FROM LikeMissionProof l " +
+            "WHERE l.user.id = :userId AND l.mainMissionProof.id IN :proofIds")
+    List<Long> findLikedProofIds(@Param("userId") Long userId, @Param("proofIds") Collection<Long> proofIds);
+
+    @Query("SELECT l.mainMissionProof.id FROM LikeMissionProof l WHERE l.user.id = :userId")
+    List<Long> findProofIdsByUserId(@Param("userId") Long userId);
+
+    long countByUserId(Long userId);
+
+    boolean existsByUserIdAndMainMissionProofId(Long userId, Long mainMissionProofId);
 
 }
@@ -1,18 +1,31 @@
 package rabbit.umc.com.demo.mainmission.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import rabbit.umc.com.demo.base.Status;
 import rabbit.umc.com.demo.mainmission.domain.mapping.MainMissionProof;
-import rabbit.umc.com.demo.user.Domain.User;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface MainMissionProofRepository extends JpaRepository<MainMissionProof, Long> {
-    List<MainMissionProof> findAllByMainMissionIdAndCreatedAtBetween(Long mainMissionId, LocalDateTime startTime, LocalDateTime endTime);
+    // 일차별 인증 사진 목록 (main_mission_id, mission_day, status 인덱스)
+    @Query("SELECT p.id AS proofId, p.user.id AS userId, p.proofImage AS filePath, p.likeCount AS likeCount " +
+            "FROM MainMissionProof p " +
+            "WHERE p.mainMission.id = :mainMissionId AND p.missionDay = :missionDay AND p.status = :status " +
+            "ORDER BY p.id")
+    List<ProofGalleryItem> findGallery(@Param("mainMissionId") Long mainMissionId,
+                                       @Param("missionDay") int missionDay,
+                                       @Param("status") Status status);
+
+    @Modifying
+    @Query(value = "UPDATE main_mission_proof SET like_count = like_count + :delta WHERE main_mission_proof_id = :mainMissionProofId", nativeQuery = true)
+    int addLikeCount(@Param("mainMissionProofId") Long mainMissionProofId, @Param("delta") int delta);
 
 
     @Query("SELECT DISTINCT m FROM MainMissionProof m " +
@@ -22,13 +35,51 @@ public interface MainMissionProofRepository extends JpaRepository<MainMissionPro
     List<MainMissionProof> findTop3ByMainMissionIdOrderByLikeCountDesc(@Param("mainMissionId") Long mainMissionId);
 
 
-    @Query("SELECT m FROM MainMissionProof m " +
-            "WHERE m.user = :user " +
-            "AND m.createdAt >= :startOfDay " +
-            "AND m.createdAt < :endOfDay")
-    List<MainMissionProof> findAllByUserAndCreatedAtBetween(@Param("user") User user,
-                                                            @Param("startOfDay") LocalDateTime startOfDay,
-                                                            @Param("endOfDay") LocalDateTime endOfDay);
+    // 오늘 이미 인증했는지 (유니크 인덱스만으로 판별)
+    boolean existsByUserIdAndMainMissionIdAndMissionDay(Long userId, Long mainMissionId, int missionDay);
+
+    // 하루 업로드 목록 채우기용
+    @Query("SELECT m.mainMission.id AS mainMissionId, m.user.id AS userId, m.missionDay AS missionDay " +
+            "FROM MainMissionProof m WHERE m.createdAt >= :from")
+    List<ProofOwner> findOwnersCreatedSince(@Param("from") LocalDateTime from);
+
+    // 신고 수 증가, 잡은 row 락은 커밋까지 유지돼 같은 인증 사진 신고는 한 건씩 처리된다
+    @Modifying
+    @Query(value = "UPDATE main_mission_proof SET report_count = report_count + 1 " +
+            "WHERE main_mission_proof_id = :mainMissionProofId", nativeQuery = true)
+    int increaseReportCount(@Param("mainMissionProofId") Long mainMissionProofId);
+
+    // 신고 수가 기준 이상인 활성 인증 사진 비활성화, 기준을 넘긴 신고 한 건에서만 1 이 반환된다
+    @Modifying
+    @Query(value = "UPDATE main_mission_proof SET status = 'INACTIVE', updated_at = NOW() " +
+            "WHERE main_mission_proof_id = :mainMissionProofId AND status = 'ACTIVE' AND report_count >= :limit", nativeQuery = true)
+    int inactivateIfReported(@Param("mainMissionProofId") Long mainMissionProofId, @Param("limit") int limit);
+
+    // 신고 보정 후 비활성화될 인증 사진의 (미션, 일차), 목록 캐시 무효화용
+    @Query(value = "SELECT DISTINCT main_mission_id AS mainMissionId, mission_day AS missionDay FROM main_mission_proof " +
+            "WHERE status = 'ACTIVE' AND report_count >= :limit", nativeQuery = true)
+    List<ProofDay> findReportedProofDays(@Param("limit") int limit);
+
+    // 좋아요 점수를 반영할 (미션, 작성자)
+    @Query("SELECT m.mainMission.id AS mainMissionId, m.user.id AS userId, m.missionDay AS missionDay " +
+            "FROM MainMissionProof m WHERE m.id = :mainMissionProofId")
+    Optional<ProofOwner> findOwnerById(@Param("mainMissionProofId") Long mainMissionProofId);
+
+    interface ProofOwner {
+        Long getMainMissionId();
+        Long getUserId();
+        int getMissionDay();
+    }
 
+    interface ProofDay {
+        Long getMainMissionId();
+        int getMissionDay();
+    }
 
+    interface ProofGalleryItem {
+        Long getProofId();
+        Long getUserId();
+        String getFilePath();
+        int getLikeCount();
+    }
 }
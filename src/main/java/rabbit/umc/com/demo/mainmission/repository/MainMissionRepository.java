@@ -2,16 +2,19 @@ package rabbit.umc.com.demo.mainmission.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import rabbit.umc.com.demo.community.domain.Category;
 import rabbit.umc.com.demo.mainmission.domain.MainMission;
+import rabbit.umc.com.demo.mainmission.domain.RolloverStatus;
 
 import rabbit.umc.com.demo.base.Status;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 @Repository
 public interface MainMissionRepository extends JpaRepository<MainMission, Long> {
 
@@ -30,7 +33,33 @@ public interface MainMissionRepository extends JpaRepository<MainMission, Long>
     MainMission findMainMissionByCategoryAndStatus(Category category, Status status);
 
     MainMission findMainMissionByCategoryIdAndStatus(Long categoryId, Status status);
-    List<MainMission> findMainMissionsByEndAtBeforeAndLastMissionTrue(LocalDate now);
+
+    // 인증 업로드 전 중복 검사용 (엔티티 대신 id, 시작일만)
+    @Query("SELECT m.id AS mainMissionId, m.startAt AS startAt FROM MainMission m " +
+            "WHERE m.category.id = :categoryId AND m.status = :status")
+    Optional<MissionPeriod> findPeriodByCategoryIdAndStatus(@Param("categoryId") Long categoryId,
+                                                            @Param("status") Status status);
+
+    interface MissionPeriod {
+        Long getMainMissionId();
+        LocalDate getStartAt();
+    }
+
+    // 묘집사 변경이 필요한 종료 미션 (id 순 chunk, 체크포인트상 완료된 미션 제외)
+    @Query("SELECT m.id AS mainMissionId, m.category.id AS categoryId FROM MainMission m " +
+            "WHERE m.endAt < :today AND m.lastMission = true AND m.id > :afterId " +
+            "AND NOT EXISTS (SELECT r.id FROM MainMissionRollover r " +
+            "WHERE r.mainMissionId = m.id AND r.status IN :finishedStatuses) " +
+            "ORDER BY m.id")
+    List<RolloverTarget> findRolloverTargets(@Param("today") LocalDate today,
+                                             @Param("afterId") Long afterId,
+                                             @Param("finishedStatuses") List<RolloverStatus> finishedStatuses,
+                                             Pageable pageable);
+
+    interface RolloverTarget {
+        Long getMainMissionId();
+        Long getCategoryId();
+    }
 
     MainMission findMainMissionsByCategoryIdAndStatus(Long categoryId, Status status );
 
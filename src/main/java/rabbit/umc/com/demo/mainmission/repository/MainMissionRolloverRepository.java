@@ -0,0 +1,11 @@
+package rabbit.umc.com.demo.mainmission.repository;
+
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import rabbit.umc.com.demo.mainmission.domain.MainMissionRollover;
+
+@Repository
+public interface MainMissionRolloverRepository extends JpaRepository<MainMissionRollover, Long> {
+    Optional<MainMissionRollover> findByMainMissionId(Long mainMissionId);
+}
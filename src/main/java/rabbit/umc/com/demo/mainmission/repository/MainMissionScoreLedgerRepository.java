@@ -0,0 +1,36 @@
+package rabbit.umc.com.demo.mainmission.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import rabbit.umc.com.demo.mainmission.domain.mapping.MainMissionScoreLedger;
+
+@Repository
+public interface MainMissionScoreLedgerRepository extends JpaRepository<MainMissionScoreLedger, Long> {
+
+    // before 이전에 쌓인 이력 중 가장 큰 id (접어 넣을 상한)
+    @Query("SELECT MAX(l.id) FROM MainMissionScoreLedger l WHERE l.createdAt < :before")
+    Long findMaxIdCreatedBefore(@Param("before") LocalDateTime before);
+
+    // 점수 조회(SCORE_WITH_LEDGER)에 합산되는, 아직 접히지 않은 이력 id (순위표 중복 반영 방지용)
+    @Query(value = "SELECT l.main_mission_id AS mainMissionId, l.main_mission_score_ledger_id AS ledgerId " +
+            "FROM main_mission_score_ledger l " +
+            "JOIN main_mission_users mmu ON mmu.main_mission_id = l.main_mission_id AND mmu.user_id = l.user_id " +
+            "JOIN main_mission m ON m.main_mission_id = l.main_mission_id " +
+            "WHERE m.status = :status AND l.main_mission_score_ledger_id > mmu.ledger_watermark", nativeQuery = true)
+    List<LedgerRef> findUncompactedByMainMissionStatus(@Param("status") String status);
+
+    @Query(value = "SELECT l.main_mission_id AS mainMissionId, l.main_mission_score_ledger_id AS ledgerId " +
+            "FROM main_mission_score_ledger l " +
+            "JOIN main_mission_users mmu ON mmu.main_mission_id = l.main_mission_id AND mmu.user_id = l.user_id " +
+            "WHERE l.main_mission_id = :mainMissionId AND l.main_mission_score_ledger_id > mmu.ledger_watermark", nativeQuery = true)
+    List<LedgerRef> findUncompactedByMainMissionId(@Param("mainMissionId") Long mainMissionId);
+
+    interface LedgerRef {
+        Long getMainMissionId();
+        Long getLedgerId();
+    }
+}
@@ -1,21 +1,60 @@
 package rabbit.umc.com.demo.mainmission.repository;
 
 import java.util.Optional;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import rabbit.umc.com.demo.mainmission.domain.MainMission;
 import rabbit.umc.com.demo.mainmission.domain.mapping.MainMissionUsers;
-import rabbit.umc.com.demo.user.Domain.User;
 
 import java.util.List;
 
 @Repository
 public interface MainMissionUsersRepository extends JpaRepository<MainMissionUsers, Long> {
-    MainMissionUsers findMainMissionUsersByUserAndAndMainMission(User user, MainMission mainMission);
+    // 메인 미션 참여 (이미 참여 중이면 무시)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO main_mission_users (user_id, main_mission_id, score, ledger_watermark, status, created_at, updated_at) " +
+            "VALUES (:userId, :mainMissionId, 0, 0, 'ACTIVE', NOW(), NOW())", nativeQuery = true)
+    int joinIfAbsent(@Param("userId") Long userId, @Param("mainMissionId") Long mainMissionId);
 
-    List<MainMissionUsers> findTop3OByMainMissionIdOrderByScoreDesc(Long mainMissionId);
+    // 스냅샷(score) + 아직 접히지 않은 이력 합계
+    String SCORE_WITH_LEDGER = "mmu.score + (SELECT COALESCE(SUM(l.delta), 0) FROM main_mission_score_ledger l " +
+            "WHERE l.main_mission_id = mmu.main_mission_id AND l.user_id = mmu.user_id " +
+            "AND l.main_mission_score_ledger_id > mmu.ledger_watermark)";
 
-    List<MainMissionUsers> findTopScorersByMainMissionOrderByScoreDesc(MainMission mainMission, PageRequest of);
+    // 순위표 구성용 (미션, 유저, 점수)
+    @Query(value = "SELECT mmu.main_mission_id AS mainMissionId, mmu.user_id AS userId, " + SCORE_WITH_LEDGER + " AS score " +
+            "FROM main_mission_users mmu JOIN main_mission m ON m.main_mission_id = mmu.main_mission_id " +
+            "WHERE m.status = :status", nativeQuery = true)
+    List<MissionScore> findScoresByMainMissionStatus(@Param("status") String status);
+
+    @Query(value = "SELECT mmu.main_mission_id AS mainMissionId, mmu.user_id AS userId, " + SCORE_WITH_LEDGER + " AS score " +
+            "FROM main_mission_users mmu WHERE mmu.main_mission_id = :mainMissionId", nativeQuery = true)
+    List<MissionScore> findScoresByMainMissionId(@Param("mainMissionId") Long mainMissionId);
+
+    // 미션 최종 1등 (동점이면 userId 가 작은 유저, 순위표와 같은 기준)
+    @Query(value = "SELECT mmu.main_mission_id AS mainMissionId, mmu.user_id AS userId, " + SCORE_WITH_LEDGER + " AS score " +
+            "FROM main_mission_users mmu WHERE mmu.main_mission_id = :mainMissionId " +
+            "ORDER BY score DESC, mmu.user_id ASC LIMIT 1", nativeQuery = true)
+    Optional<MissionScore> findTopScorerByMainMissionId(@Param("mainMissionId") Long mainMissionId);
+
+    // upTo 까지의 이력을 score 에 접어 넣음, score 를 먼저 계산해야 이전 watermark 기준으로 합산됨
+    @Modifying
+    @Query(value = "UPDATE main_mission_users mmu SET " +
+            "mmu.score = mmu.score + (SELECT COALESCE(SUM(l.delta), 0) FROM main_mission_score_ledger l " +
+            "WHERE l.main_mission_id = mmu.main_mission_id AND l.user_id = mmu.user_id " +
+            "AND l.main_mission_score_ledger_id > mmu.ledger_watermark AND l.main_mission_score_ledger_id <= :upTo), " +
+            "mmu.ledger_watermark = :upTo " +
+            "WHERE mmu.ledger_watermark < :upTo AND EXISTS (SELECT 1 FROM main_mission_score_ledger l " +
+            "WHERE l.main_mission_id = mmu.main_mission_id AND l.user_id = mmu.user_id " +
+            "AND l.main_mission_score_ledger_id > mmu.ledger_watermark AND l.main_mission_score_ledger_id <= :upTo)", nativeQuery = true)
+    int compactLedger(@Param("upTo") Long upTo);
+
+    interface MissionScore {
+        Long getMainMissionId();
+        Long getUserId();
+        int getScore();
+    }
 
 }
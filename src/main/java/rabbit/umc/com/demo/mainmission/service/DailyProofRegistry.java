@@ -0,0 +1,97 @@
+package rabbit.umc.com.demo.mainmission.service;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import rabbit.umc.com.demo.mainmission.repository.MainMissionProofRepository;
+import rabbit.umc.com.demo.mainmission.repository.MainMissionProofRepository.ProofOwner;
+
+/**
+ * 오늘 인증 사진을 올린 (미션, 유저) 집합
+ * 중복 업로드를 S3 전송/엔티티 조회 전에 걸러내기 위한 용도이고, 최종 판단은 DB 유니크 제약이 한다.
+ * 날짜가 바뀌면 오늘 올라온 인증 사진으로 다시 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DailyProofRegistry {
+    private final MainMissionProofRepository mainMissionProofRepository;
+
+    private volatile Today today;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        current();
+    }
+
+    public boolean isUploaded(Long mainMissionId, Long userId) {
+        return current().uploaded.contains(new Key(mainMissionId, userId));
+    }
+
+    // 다른 서버에서 올린 것을 DB 에서 확인했을 때
+    public void markUploaded(Long mainMissionId, Long userId) {
+        current().uploaded.add(new Key(mainMissionId, userId));
+    }
+
+    // 오늘 처음이면 자리를 잡고 true, 업로드 중인 요청이 있으면 false
+    // 현재 트랜잭션이 커밋되지 않으면 잡은 자리를 반납한다
+    public boolean reserve(Long mainMissionId, Long userId) {
+        Key key = new Key(mainMissionId, userId);
+        Set<Key> uploaded = current().uploaded;
+        if (!uploaded.add(key)) {
+            return false;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        uploaded.remove(key);
+                    }
+                }
+            });
+        }
+        return true;
+    }
+
+    private Today current() {
+        LocalDate date = LocalDate.now();
+        Today snapshot = today;
+        if (snapshot != null && snapshot.date.equals(date)) {
+            return snapshot;
+        }
+        synchronized (this) {
+            if (today == null || !today.date.equals(date)) {
+                today = load(date);
+            }
+            return today;
+        }
+    }
+
+    private Today load(LocalDate date) {
+        Set<Key> uploaded = ConcurrentHashMap.newKeySet();
+        for (ProofOwner owner : mainMissionProofRepository.findOwnersCreatedSince(date.atStartOfDay())) {
+            uploaded.add(new Key(owner.getMainMissionId(), owner.getUserId()));
+        }
+        return new Today(date, uploaded);
+    }
+
+    @RequiredArgsConstructor
+    private static class Today {
+        private final LocalDate date;
+        private final Set<Key> uploaded;
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class Key {
+        private final Long mainMissionId;
+        private final Long userId;
+    }
+}
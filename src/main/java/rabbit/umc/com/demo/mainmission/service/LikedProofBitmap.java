@@ -0,0 +1,37 @@
+package rabbit.umc.com.demo.mainmission.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 한 유저가 좋아요한 인증 사진 id 집합
+ * id 를 4096 개 단위 구간으로 나누고, 좋아요가 있는 구간만 비트맵(long 64개)을 만든다.
+ */
+public class LikedProofBitmap {
+    private static final int CHUNK_SHIFT = 12;
+    private static final int WORDS_PER_CHUNK = (1 << CHUNK_SHIFT) / Long.SIZE;
+
+    private final Map<Long, long[]> chunks = new HashMap<>();
+
+    public synchronized void add(long proofId) {
+        long[] words = chunks.computeIfAbsent(proofId >>> CHUNK_SHIFT, chunk -> new long[WORDS_PER_CHUNK]);
+        words[wordIndex(proofId)] |= 1L << proofId;
+    }
+
+    public synchronized void remove(long proofId) {
+        long[] words = chunks.get(proofId >>> CHUNK_SHIFT);
+        if (words != null) {
+            words[wordIndex(proofId)] &= ~(1L << proofId);
+        }
+    }
+
+    public synchronized boolean contains(long proofId) {
+        long[] words = chunks.get(proofId >>> CHUNK_SHIFT);
+        return words != null && (words[wordIndex(proofId)] & (1L << proofId)) != 0;
+    }
+
+    // 구간 안에서의 long 위치 (비트 위치는 시프트 연산이 하위 6비트만 사용)
+    private static int wordIndex(long proofId) {
+        return (int) ((proofId >>> 6) & (WORDS_PER_CHUNK - 1));
+    }
+}
@@ -0,0 +1,151 @@
+package rabbit.umc.com.demo.mainmission.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import rabbit.umc.com.demo.mainmission.repository.LikeMissionProofRepository;
+
+/**
+ * 인증 사진 목록의 "내가 좋아요 했는지" 판별
+ * 보통 유저는 화면에 나온 사진 id 만 IN 으로 조회하고,
+ * 좋아요가 많은 유저는 전체 좋아요를 비트맵으로 캐시해 조회 없이 판별한다.
+ * 버퍼에 남아있는 좋아요/취소는 호출하는 쪽에서 MissionProofLikeWriter.bufferedState 로 덮어쓴다.
+ *
+ * 비트맵은 서버마다 따로 가지고, 같은 서버에서 받아들인 좋아요/취소만 바로 반영된다.
+ * 다른 서버에서 받은 좋아요/취소는 최대 ttl(mission.liked-cache.ttl-ms, 기본 1분) 동안 보이지 않을 수 있다.
+ */
+@Component
+public class LikedProofCache {
+    private final LikeMissionProofRepository likeMissionProofRepository;
+    private final long heavyUserLikes;
+    private final long ttlMillis;
+    private final Map<Long, Entry> entries;
+    // DB 에서 비트맵을 읽는 중인 유저의 좋아요/취소, 읽은 뒤 비트맵에 다시 반영 (entries 로 동기화)
+    private final Map<Long, Loading> loadings = new HashMap<>();
+
+    public LikedProofCache(LikeMissionProofRepository likeMissionProofRepository,
+                           @Value("${mission.liked-cache.heavy-user-likes:300}") long heavyUserLikes,
+                           @Value("${mission.liked-cache.ttl-ms:60000}") long ttlMillis,
+                           @Value("${mission.liked-cache.max-users:1000}") int maxUsers) {
+        this.likeMissionProofRepository = likeMissionProofRepository;
+        this.heavyUserLikes = heavyUserLikes;
+        this.ttlMillis = ttlMillis;
+        // 오래 안 본 유저부터 제거
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    public Predicate<Long> likedAmong(Long userId, Collection<Long> proofIds) {
+        if (proofIds.isEmpty()) {
+            return proofId -> false;
+        }
+        Entry entry = entry(userId);
+        if (entry.bitmap != null) {
+            return entry.bitmap::contains;
+        }
+        Set<Long> liked = new HashSet<>(likeMissionProofRepository.findLikedProofIds(userId, proofIds));
+        return liked::contains;
+    }
+
+    // 좋아요/취소 요청이 받아들여졌을 때 캐시된 비트맵에도 반영
+    public void update(Long userId, Long proofId, boolean liked) {
+        synchronized (entries) {
+            Loading loading = loadings.get(userId);
+            if (loading != null) {
+                loading.changes.add(new Change(proofId, liked));
+            }
+            Entry entry = entries.get(userId);
+            if (entry != null) {
+                entry.apply(proofId, liked);
+            }
+        }
+    }
+
+    private Entry entry(Long userId) {
+        synchronized (entries) {
+            Entry entry = entries.get(userId);
+            if (entry != null && System.currentTimeMillis() - entry.loadedAt < ttlMillis) {
+                return entry;
+            }
+            loadings.computeIfAbsent(userId, id -> new Loading()).loaders++;
+        }
+        Entry loaded = null;
+        try {
+            loaded = load(userId);
+            return loaded;
+        } finally {
+            // 읽는 동안 받아들인 좋아요/취소를 반영한 뒤 등록해, update 와 등록 사이에 빠지는 변경이 없게 함
+            synchronized (entries) {
+                Loading loading = loadings.get(userId);
+                if (loaded != null) {
+                    for (Change change : loading.changes) {
+                        loaded.apply(change.proofId, change.liked);
+                    }
+                    entries.put(userId, loaded);
+                }
+                if (--loading.loaders == 0) {
+                    loadings.remove(userId);
+                }
+            }
+        }
+    }
+
+    private Entry load(Long userId) {
+        if (likeMissionProofRepository.countByUserId(userId) < heavyUserLikes) {
+            return new Entry(null);
+        }
+        LikedProofBitmap bitmap = new LikedProofBitmap();
+        for (Long proofId : likeMissionProofRepository.findProofIdsByUserId(userId)) {
+            bitmap.add(proofId);
+        }
+        return new Entry(bitmap);
+    }
+
+    // bitmap 이 null 이면 좋아요가 적은 유저 (매번 IN 조회)
+    private static class Entry {
+        private final LikedProofBitmap bitmap;
+        private final long loadedAt = System.currentTimeMillis();
+
+        private Entry(LikedProofBitmap bitmap) {
+            this.bitmap = bitmap;
+        }
+
+        private void apply(Long proofId, boolean liked) {
+            if (bitmap == null) {
+                return;
+            }
+            if (liked) {
+                bitmap.add(proofId);
+            } else {
+                bitmap.remove(proofId);
+            }
+        }
+    }
+
+    private static class Loading {
+        private final List<Change> changes = new ArrayList<>();
+        private int loaders;
+    }
+
+    private static class Change {
+        private final Long proofId;
+        private final boolean liked;
+
+        private Change(Long proofId, boolean liked) {
+            this.proofId = proofId;
+            this.liked = liked;
+        }
+    }
+}
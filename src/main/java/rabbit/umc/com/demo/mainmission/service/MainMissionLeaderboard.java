@@ -0,0 +1,213 @@
+package rabbit.umc.com.demo.mainmission.service;
+
+import static rabbit.umc.com.demo.base.Status.ACTIVE;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import rabbit.umc.com.demo.community.article.service.CommunityHomeChangedEvent;
+import rabbit.umc.com.demo.mainmission.repository.MainMissionScoreLedgerRepository;
+import rabbit.umc.com.demo.mainmission.repository.MainMissionScoreLedgerRepository.LedgerRef;
+import rabbit.umc.com.demo.mainmission.repository.MainMissionUsersRepository;
+import rabbit.umc.com.demo.mainmission.repository.MainMissionUsersRepository.MissionScore;
+import rabbit.umc.com.demo.mainmission.service.RankTree.RankEntry;
+
+/**
+ * 메인 미션별 순위표
+ * 진행중 미션은 서버 시작 시 DB 에서 만들고, 이후에는 커밋된 점수 변경만 반영
+ * 종료된 미션은 처음 조회할 때 DB 에서 읽어 둠
+ *
+ * DB 에서 읽는 동안 들어온 점수 변경은 모아 두었다가 새 순위표에 다시 반영한다.
+ * 읽은 점수에 이미 포함된 변경인지는 이력 id 로 판단해, 같은 변경이 두 번 더해지지 않는다.
+ * 점수 변경으로 미션 1등이 바뀌면 커뮤니티 홈 캐시를 비운다.
+ */
+@Slf4j
+@Component
+public class MainMissionLeaderboard {
+    private final MainMissionUsersRepository mainMissionUsersRepository;
+    private final MainMissionScoreLedgerRepository mainMissionScoreLedgerRepository;
+    // 점수와 이력 id 를 같은 스냅샷에서 읽기 위한 트랜잭션
+    private final TransactionTemplate snapshotTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<Long, Board> boards = new ConcurrentHashMap<>();
+
+    // 아래 두 필드는 this 로 동기화
+    private final List<MainMissionScoreChangedEvent> pending = new ArrayList<>();
+    private int building;
+
+    public MainMissionLeaderboard(MainMissionUsersRepository mainMissionUsersRepository,
+                                  MainMissionScoreLedgerRepository mainMissionScoreLedgerRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  ApplicationEventPublisher eventPublisher) {
+        this.mainMissionUsersRepository = mainMissionUsersRepository;
+        this.mainMissionScoreLedgerRepository = mainMissionScoreLedgerRepository;
+        this.eventPublisher = eventPublisher;
+        this.snapshotTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate.setReadOnly(true);
+        this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    // 미션 종료 처리(자정) 후 종료된 미션 정리 + 누락된 변경 보정
+    @Scheduled(cron = "0 5 0 * * ?")
+    public void rebuild() {
+        Map<Long, Board> rebuilt = build(() -> snapshotTemplate.execute(status -> {
+            Map<Long, Board> read = new HashMap<>();
+            for (MissionScore missionScore : mainMissionUsersRepository.findScoresByMainMissionStatus(ACTIVE.name())) {
+                read.computeIfAbsent(missionScore.getMainMissionId(), id -> new Board())
+                        .setScore(missionScore.getUserId(), missionScore.getScore());
+            }
+            for (LedgerRef ref : mainMissionScoreLedgerRepository.findUncompactedByMainMissionStatus(ACTIVE.name())) {
+                Board board = read.get(ref.getMainMissionId());
+                if (board != null) {
+                    board.markApplied(ref.getLedgerId());
+                }
+            }
+            return read;
+        }), read -> {
+            boards.keySet().retainAll(read.keySet());
+            boards.putAll(read);
+        });
+        log.info("main mission leaderboard rebuilt: {} missions", rebuilt.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScoreChanged(MainMissionScoreChangedEvent event) {
+        boolean topChanged = false;
+        synchronized (this) {
+            if (building > 0) {
+                pending.add(event);
+            }
+            // 아직 안 읽은 미션은 다음 조회 때 DB 에서 읽으므로 무시
+            Board board = boards.get(event.getMainMissionId());
+            if (board != null) {
+                topChanged = board.apply(event);
+            }
+        }
+        if (topChanged) {
+            eventPublisher.publishEvent(new CommunityHomeChangedEvent());
+        }
+    }
+
+    public List<RankEntry> top(Long mainMissionId, int count) {
+        return board(mainMissionId).tree.top(count);
+    }
+
+    public int rankOf(Long mainMissionId, Long userId) {
+        return board(mainMissionId).tree.rankOf(userId);
+    }
+
+    public int size(Long mainMissionId) {
+        return board(mainMissionId).tree.size();
+    }
+
+    public List<RankEntry> around(Long mainMissionId, Long userId, int distance) {
+        return board(mainMissionId).tree.around(userId, distance);
+    }
+
+    // computeIfAbsent 안에서 DB 를 읽으면 rebuild 의 putAll 과 교착될 수 있어 직접 확인 후 등록
+    private Board board(Long mainMissionId) {
+        Board board = boards.get(mainMissionId);
+        if (board != null) {
+            return board;
+        }
+        Board[] registered = new Board[1];
+        build(() -> snapshotTemplate.execute(status -> {
+            Map<Long, Board> read = new HashMap<>();
+            Board loaded = new Board();
+            for (MissionScore missionScore : mainMissionUsersRepository.findScoresByMainMissionId(mainMissionId)) {
+                loaded.setScore(missionScore.getUserId(), missionScore.getScore());
+            }
+            for (LedgerRef ref : mainMissionScoreLedgerRepository.findUncompactedByMainMissionId(mainMissionId)) {
+                loaded.markApplied(ref.getLedgerId());
+            }
+            read.put(mainMissionId, loaded);
+            return read;
+        }), read -> {
+            Board existing = boards.putIfAbsent(mainMissionId, read.get(mainMissionId));
+            registered[0] = existing != null ? existing : read.get(mainMissionId);
+        });
+        return registered[0];
+    }
+
+    /**
+     * reader 로 DB 에서 순위표를 읽고, 읽는 동안 들어온 변경을 반영한 뒤 publisher 로 등록
+     * 변경 반영과 등록은 onScoreChanged 와 같은 락 안에서 해서 그 사이의 변경도 놓치지 않는다.
+     */
+    private Map<Long, Board> build(Supplier<Map<Long, Board>> reader, Consumer<Map<Long, Board>> publisher) {
+        synchronized (this) {
+            building++;
+        }
+        Map<Long, Board> read = null;
+        try {
+            read = reader.get();
+            return read;
+        } finally {
+            synchronized (this) {
+                if (read != null) {
+                    for (MainMissionScoreChangedEvent event : pending) {
+                        Board board = read.get(event.getMainMissionId());
+                        if (board != null) {
+                            board.apply(event);
+                        }
+                    }
+                    publisher.accept(read);
+                }
+                if (--building == 0) {
+                    pending.clear();
+                }
+            }
+        }
+    }
+
+    // 순위표 + 이미 반영된 이력 id (다음 rebuild 때 새로 만들어짐)
+    private static class Board {
+        private final RankTree tree = new RankTree();
+        private final Set<Long> appliedLedgerIds = new HashSet<>();
+
+        private void setScore(Long userId, int score) {
+            tree.setScore(userId, score);
+        }
+
+        private synchronized void markApplied(Long ledgerId) {
+            appliedLedgerIds.add(ledgerId);
+        }
+
+        // 반영 후 1등이 바뀌었으면 true
+        private synchronized boolean apply(MainMissionScoreChangedEvent event) {
+            if (!appliedLedgerIds.add(event.getLedgerId())) {
+                return false;
+            }
+            Long topBefore = topUserId();
+            tree.addScore(event.getUserId(), event.getDelta());
+            return !Objects.equals(topBefore, topUserId());
+        }
+
+        private Long topUserId() {
+            List<RankEntry> top = tree.top(1);
+            return top.isEmpty() ? null : top.get(0).getUserId();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package rabbit.umc.com.demo.mainmission.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import rabbit.umc.com.demo.community.article.service.CommunityHomeChangedEvent;
+import rabbit.umc.com.demo.mainmission.domain.RolloverStatus;
+import rabbit.umc.com.demo.mainmission.repository.MainMissionRepository;
+import rabbit.umc.com.demo.mainmission.repository.MainMissionRepository.RolloverTarget;
+import rabbit.umc.com.scheduling.JdbcLeaseLock;
+import rabbit.umc.com.scheduling.Lease;
+
+/**
+ * 스케줄러
+ * 묘방생 미션 종료시 권한 수정됨
+ * 종료 미션을 id 순 chunk 로 읽어, 카테고리별로 나눠 제한된 스레드에서 병렬 처리한다.
+ * 같은 카테고리의 미션은 한 스레드에서 순서대로 처리하고, 한 미션의 실패는 다른 미션에 영향을 주지 않는다.
+ * 1등은 DB 점수로 정하므로, 시작 전에 이 서버에 쌓인 좋아요와 점수를 먼저 반영한다.
+ * 다른 서버의 버퍼는 각자 flush 주기(좋아요 300ms + 점수 1초)마다 비워지므로 자정 5초 뒤에 시작한다.
+ */
+@Slf4j
+@Component
+public class MainMissionRolloverJob {
+    private static final String LOCK_NAME = "main-mission-rollover";
+    private static final Duration LEASE_TIME = Duration.ofMinutes(30);
+    private static final List<RolloverStatus> FINISHED_STATUSES = List.of(RolloverStatus.DONE, RolloverStatus.NO_PARTICIPANT);
+
+    private final MainMissionRepository mainMissionRepository;
+    private final MainMissionRolloverStep mainMissionRolloverStep;
+    private final MissionProofLikeWriter missionProofLikeWriter;
+    private final MainMissionScoreWriter mainMissionScoreWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcLeaseLock leaseLock;
+    private final int chunkSize;
+    private final int threads;
+
+    public MainMissionRolloverJob(MainMissionRepository mainMissionRepository,
+                                  MainMissionRolloverStep mainMissionRolloverStep,
+                                  MissionProofLikeWriter missionProofLikeWriter,
+                                  MainMissionScoreWriter mainMissionScoreWriter,
+                                  ApplicationEventPublisher eventPublisher,
+                                  JdbcLeaseLock leaseLock,
+                                  @Value("${mission.rollover.chunk-size:100}") int chunkSize,
+                                  @Value("${mission.rollover.threads:4}") int threads) {
+        this.mainMissionRepository = mainMissionRepository;
+        this.mainMissionRolloverStep = mainMissionRolloverStep;
+        this.missionProofLikeWriter = missionProofLikeWriter;
+        this.mainMissionScoreWriter = mainMissionScoreWriter;
+        this.eventPublisher = eventPublisher;
+        this.leaseLock = leaseLock;
+        this.chunkSize = chunkSize;
+        this.threads = threads;
+    }
+
+//    @Scheduled(cron = "0 * * * * ?")
+    @Scheduled(cron = "5 0 0 * * ?") // 매일 자정(다른 서버의 점수 버퍼가 비워진 뒤)에 스케줄 실행
+    public void checkCompletedMainMissions() {
+        // 여러 서버 중 lease 를 얻은 한 곳에서만 실행
+        leaseLock.runExclusively(LOCK_NAME, LEASE_TIME, Duration.ofMinutes(1), this::rollover);
+    }
+
+    private void rollover(Lease lease) {
+        long startedAt = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+        Map<RolloverStatus, Integer> outcomes = new EnumMap<>(RolloverStatus.class);
+
+        // 좋아요 반영이 점수 누적을 만들기 때문에 좋아요 -> 점수 순서로 비움
+        missionProofLikeWriter.flush();
+        mainMissionScoreWriter.flush();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Long afterId = 0L;
+            List<RolloverTarget> chunk;
+            do {
+                chunk = mainMissionRepository.findRolloverTargets(today, afterId, FINISHED_STATUSES, PageRequest.of(0, chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                processChunk(chunk, executor, lease).forEach(status -> outcomes.merge(status, 1, Integer::sum));
+                afterId = chunk.get(chunk.size() - 1).getMainMissionId();
+                // chunk 마다 연장, 이미 다른 서버가 가져갔으면 중단
+                if (!leaseLock.renew(lease, LEASE_TIME)) {
+                    log.warn("main mission rollover lease lost after mission {}", afterId);
+                    break;
+                }
+            } while (chunk.size() == chunkSize);
+        } finally {
+            executor.shutdown();
+        }
+
+        log.info("main mission rollover finished in {} ms: {}", System.currentTimeMillis() - startedAt, outcomes);
+        // 날짜가 바뀌어 D-Day 와 진행중 미션 목록이 달라짐
+        eventPublisher.publishEvent(new CommunityHomeChangedEvent());
+    }
+
+    // chunk 안의 카테고리별 작업이 모두 끝날 때까지 대기
+    private List<RolloverStatus> processChunk(List<RolloverTarget> chunk, ExecutorService executor, Lease lease) {
+        Map<Long, List<RolloverTarget>> byCategory = chunk.stream()
+                .collect(Collectors.groupingBy(RolloverTarget::getCategoryId, LinkedHashMap::new, Collectors.toList()));
+
+        List<CompletableFuture<List<RolloverStatus>>> futures = byCategory.values().stream()
+                .map(targets -> CompletableFuture.supplyAsync(() -> processCategory(targets, lease), executor))
+                .collect(Collectors.toList());
+
+        List<RolloverStatus> results = new ArrayList<>();
+        futures.forEach(future -> results.addAll(future.join()));
+        return results;
+    }
+
+    private List<RolloverStatus> processCategory(List<RolloverTarget> targets, Lease lease) {
+        List<RolloverStatus> results = new ArrayList<>();
+        for (RolloverTarget target : targets) {
+            results.add(processMission(target, lease));
+        }
+        return results;
+    }
+
+    private RolloverStatus processMission(RolloverTarget target, Lease lease) {
+        long startedAt = System.currentTimeMillis();
+        try {
+            RolloverStatus status = mainMissionRolloverStep.rollover(target.getMainMissionId(), target.getCategoryId(), lease);
+            log.info("main mission {} rollover {} in {} ms", target.getMainMissionId(), status, System.currentTimeMillis() - startedAt);
+            return status;
+        } catch (RuntimeException e) {
+            long durationMs = System.currentTimeMillis() - startedAt;
+            log.error("main mission {} rollover failed in {} ms", target.getMainMissionId(), durationMs, e);
+            try {
+                mainMissionRolloverStep.recordFailure(target.getMainMissionId(), target.getCategoryId(), e.getMessage(), durationMs, lease);
+            } catch (RuntimeException recordError) {
+                log.error("main mission {} rollover failure could not be recorded", target.getMainMissionId(), recordError);
+            }
+            return RolloverStatus.FAILED;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package rabbit.umc.com.demo.mainmission.service;
+
+import static rabbit.umc.com.demo.converter.MainMissionConverter.toMainMissionRollover;
+
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import rabbit.umc.com.demo.community.domain.Category;
+import rabbit.umc.com.demo.mainmission.domain.MainMission;
+import rabbit.umc.com.demo.mainmission.domain.MainMissionRollover;
+import rabbit.umc.com.demo.mainmission.domain.RolloverStatus;
+import rabbit.umc.com.demo.mainmission.repository.MainMissionRepository;
+import rabbit.umc.com.demo.mainmission.repository.MainMissionRolloverRepository;
+import rabbit.umc.com.demo.mainmission.repository.MainMissionUsersRepository;
+import rabbit.umc.com.demo.mainmission.repository.MainMissionUsersRepository.MissionScore;
+import rabbit.umc.com.demo.user.Domain.User;
+import rabbit.umc.com.demo.user.service.UserQueryService;
+import rabbit.umc.com.demo.user.service.UserService;
+import rabbit.umc.com.scheduling.JdbcLeaseLock;
+import rabbit.umc.com.scheduling.Lease;
+import rabbit.umc.com.scheduling.LeaseLostException;
+
+/**
+ * 종료된 메인 미션 하나의 묘집사 변경 (미션마다 별도 트랜잭션)
+ * 결과는 같은 트랜잭션에서 체크포인트에 남겨, 커밋된 미션은 다시 처리하지 않는다.
+ * lease 를 잃었거나 더 큰 token 으로 이미 처리된 미션이면 아무것도 바꾸지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MainMissionRolloverStep {
+    private final MainMissionRepository mainMissionRepository;
+    private final MainMissionUsersRepository mainMissionUsersRepository;
+    private final MainMissionRolloverRepository mainMissionRolloverRepository;
+    private final UserQueryService userQueryService;
+    private final UserService userService;
+    private final JdbcLeaseLock leaseLock;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public RolloverStatus rollover(Long mainMissionId, Long categoryId, Lease lease) {
+        long startedAt = System.currentTimeMillis();
+        MainMissionRollover checkpoint = findCheckpoint(mainMissionId, categoryId);
+        if (checkpoint.isFencedOff(lease.getToken()) || !leaseLock.isHeld(lease)) {
+            throw new LeaseLostException(lease);
+        }
+
+        // 순위표가 아닌 DB 의 스냅샷 + 나머지 이력으로 최종 1등 결정
+        Optional<MissionScore> topScorer = mainMissionUsersRepository.findTopScorerByMainMissionId(mainMissionId);
+        if (topScorer.isEmpty()) {
+            checkpoint.finish(RolloverStatus.NO_PARTICIPANT, null, System.currentTimeMillis() - startedAt, lease.getToken());
+            mainMissionRolloverRepository.save(checkpoint);
+            return RolloverStatus.NO_PARTICIPANT;
+        }
+
+        MainMission mainMission = mainMissionRepository.getReferenceById(mainMissionId);
+        Category category = mainMission.getCategory();
+
+        //이전 묘집사 강등
+        userService.changePermissionToUser(category.getUser());
+
+        //유저 권한 변경
+        User newUser = userQueryService.getUser(topScorer.get().getUserId());
+        userService.changePermissionToHost(newUser);
+
+        //해당 카테고리 묘집사 변경
+        category.changeHostUser(newUser);
+        mainMission.setLastMission(Boolean.FALSE);
+
+        checkpoint.finish(RolloverStatus.DONE, newUser.getId(), System.currentTimeMillis() - startedAt, lease.getToken());
+        mainMissionRolloverRepository.save(checkpoint);
+        return RolloverStatus.DONE;
+    }
+
+    // rollover 트랜잭션이 롤백된 뒤 실패 기록만 따로 커밋
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordFailure(Long mainMissionId, Long categoryId, String errorMessage, long durationMs, Lease lease) {
+        MainMissionRollover checkpoint = findCheckpoint(mainMissionId, categoryId);
+        if (checkpoint.isFencedOff(lease.getToken())) {
+            return;
+        }
+        checkpoint.fail(errorMessage, durationMs, lease.getToken());
+        mainMissionRolloverRepository.save(checkpoint);
+    }
+
+    private MainMissionRollover findCheckpoint(Long mainMissionId, Long categoryId) {
+        return mainMissionRolloverRepository.findByMainMissionId(mainMissionId)
+                .orElseGet(() -> toMainMissionRollover(mainMissionId, categoryId));
+    }
+}
@@ -0,0 +1,18 @@
+package rabbit.umc.com.demo.mainmission.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 메인 미션 참여자 점수 변경 (커밋 후 순위표에 반영)
+ * 이력 id 로 순위표가 같은 변경을 두 번 반영하지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class MainMissionScoreChangedEvent {
+    private final Long mainMissionId;
+    private final Long userId;
+    private final int delta;
+    // 점수 변경을 기록한 main_mission_score_ledger id
+    private final Long ledgerId;
+}
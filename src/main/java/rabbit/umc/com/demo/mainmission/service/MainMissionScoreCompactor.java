@@ -0,0 +1,46 @@
+package rabbit.umc.com.demo.mainmission.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import rabbit.umc.com.demo.mainmission.repository.MainMissionScoreLedgerRepository;
+import rabbit.umc.com.demo.mainmission.repository.MainMissionUsersRepository;
+import rabbit.umc.com.scheduling.JdbcLeaseLock;
+
+/**
+ * 점수 이력을 main_mission_users.score 스냅샷으로 접어 넣음
+ * 이력 id 는 커밋 순서와 다를 수 있어, lag 보다 오래된 이력까지만 접는다.
+ * (lag 안쪽의 이력은 조회 시 스냅샷 + 나머지 합계로 계산)
+ * 이력 row 는 지우지 않는다. (1등 결정에 대한 이의 제기 시 점수 변동을 그대로 확인할 수 있도록 insert 전용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MainMissionScoreCompactor {
+    private final MainMissionScoreLedgerRepository mainMissionScoreLedgerRepository;
+    private final MainMissionUsersRepository mainMissionUsersRepository;
+    private final JdbcLeaseLock leaseLock;
+
+    @Value("${mission.score.compact-lag-seconds:300}")
+    private long compactLagSeconds;
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${mission.score.compact-delay-ms:600000}")
+    public void compact() {
+        leaseLock.runExclusively("main-mission-score-compaction", Duration.ofMinutes(10), Duration.ofMinutes(1), lease -> {
+            Long upTo = mainMissionScoreLedgerRepository.findMaxIdCreatedBefore(LocalDateTime.now().minusSeconds(compactLagSeconds));
+            if (upTo == null) {
+                return;
+            }
+            int compacted = mainMissionUsersRepository.compactLedger(upTo);
+            if (compacted > 0) {
+                log.info("main mission score ledger compacted up to {}: {} participants", upTo, compacted);
+            }
+        });
+    }
+}
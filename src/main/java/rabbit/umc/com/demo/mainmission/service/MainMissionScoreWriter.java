@@ -0,0 +1,131 @@
+package rabbit.umc.com.demo.mainmission.service;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import rabbit.umc.com.config.SchedulingConfig;
+import rabbit.umc.com.demo.mainmission.domain.ScoreReason;
+import rabbit.umc.com.demo.mainmission.service.ScoreAccumulator.ScoreKey;
+
+/**
+ * 좋아요 점수를 (참여자, 인증 사진) 별로 모아 점수 이력에 한번에 insert
+ * 이벤트마다 row 를 쓰지 않고, flush 주기 동안의 순증감을 PROOF_LIKE_NET 한 row 로 기록한다.
+ * main_mission_users row 는 건드리지 않고, score 반영은 MainMissionScoreCompactor 가 한다.
+ *
+ * 유실 범위: 누적분은 메모리에만 있으므로 서버가 비정상 종료되면 마지막 flush 이후
+ * (mission.score.flush-delay-ms, 기본 1초) 커밋된 좋아요 점수가 반영되지 않을 수 있다.
+ * 정상 종료 시에는 @PreDestroy 에서 비우고, 반영에 실패한 누적분은 다음 주기에 다시 시도한다.
+ */
+@Slf4j
+@Component
+public class MainMissionScoreWriter {
+    private static final String INSERT_LEDGER_SQL =
+            "INSERT INTO main_mission_score_ledger (main_mission_id, user_id, delta, reason, source_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, NOW(), NOW())";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskScheduler flushTaskScheduler;
+    private final long flushDelayMillis;
+
+    private final ScoreAccumulator accumulator = new ScoreAccumulator();
+
+    public MainMissionScoreWriter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Qualifier(SchedulingConfig.FLUSH_TASK_SCHEDULER) TaskScheduler flushTaskScheduler,
+                                  @Value("${mission.score.flush-delay-ms:1000}") long flushDelayMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.flushTaskScheduler = flushTaskScheduler;
+        this.flushDelayMillis = flushDelayMillis;
+    }
+
+    // 좋아요 버퍼와 같이 배치 작업과 분리된 스레드에서 반영
+    @PostConstruct
+    public void startFlushing() {
+        flushTaskScheduler.scheduleWithFixedDelay(this::flush, Duration.ofMillis(flushDelayMillis));
+    }
+
+    // 좋아요가 커밋된 뒤에만 누적
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProofLikeScore(ProofLikeScoreEvent event) {
+        accumulator.add(event.getMainMissionId(), event.getUserId(), event.getMainMissionProofId(), event.getDelta());
+    }
+
+    public synchronized void flush() {
+        Map<ScoreKey, Integer> deltas = accumulator.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(deltas));
+        } catch (RuntimeException e) {
+            log.error("미션 점수 반영 실패, 다음 주기에 재시도합니다. size: {}", deltas.size(), e);
+            accumulator.restore(deltas);
+        }
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+    }
+
+    private void write(Map<ScoreKey, Integer> deltas) {
+        List<Map.Entry<ScoreKey, Integer>> entries = new ArrayList<>(deltas.entrySet());
+        List<Long> ledgerIds = insertLedger(entries);
+
+        for (int i = 0; i < entries.size(); i++) {
+            ScoreKey key = entries.get(i).getKey();
+            eventPublisher.publishEvent(new MainMissionScoreChangedEvent(
+                    key.getMainMissionId(), key.getUserId(), entries.get(i).getValue(), ledgerIds.get(i)));
+        }
+        // 1등이 바뀌었는지는 순위표가 반영하면서 판단해 커뮤니티 홈 캐시를 비움 (MainMissionLeaderboard)
+    }
+
+    // batch insert 후 생성된 이력 id 를 entries 순서대로 반환 (순위표 이벤트에 사용)
+    private List<Long> insertLedger(List<Map.Entry<ScoreKey, Integer>> entries) {
+        List<Long> ledgerIds = jdbcTemplate.execute((ConnectionCallback<List<Long>>) con -> {
+            try (PreparedStatement ps = con.prepareStatement(INSERT_LEDGER_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Map.Entry<ScoreKey, Integer> entry : entries) {
+                    ScoreKey key = entry.getKey();
+                    ps.setLong(1, key.getMainMissionId());
+                    ps.setLong(2, key.getUserId());
+                    ps.setInt(3, entry.getValue());
+                    ps.setString(4, ScoreReason.PROOF_LIKE_NET.name());
+                    ps.setObject(5, key.getSourceId());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                List<Long> ids = new ArrayList<>(entries.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                return ids;
+            }
+        });
+        if (ledgerIds == null || ledgerIds.size() != entries.size()) {
+            throw new IllegalStateException("generated ledger ids mismatch: " + entries.size());
+        }
+        return ledgerIds;
+    }
+}
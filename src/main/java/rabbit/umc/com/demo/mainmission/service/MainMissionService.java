@@ -2,44 +2,46 @@ package rabbit.umc.com.demo.mainmission.service;
 
 import java.io.IOException;
 import java.time.format.DateTimeFormatter;
-import java.util.Optional;
+import java.util.Map;
+import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import rabbit.umc.com.config.apiPayload.BaseException;
 import rabbit.umc.com.demo.community.category.CategoryRepository;
+import rabbit.umc.com.demo.community.article.service.CommunityHomeChangedEvent;
 import rabbit.umc.com.demo.community.category.CategoryService;
 import rabbit.umc.com.demo.community.domain.Category;
 import rabbit.umc.com.demo.converter.RankConverter;
 import rabbit.umc.com.demo.converter.ReportConverter;
 import rabbit.umc.com.demo.image.service.ImageService;
-import rabbit.umc.com.demo.mainmission.domain.mapping.LikeMissionProof;
 import rabbit.umc.com.demo.mainmission.domain.MainMission;
 import rabbit.umc.com.demo.mainmission.domain.mapping.MainMissionProof;
-import rabbit.umc.com.demo.mainmission.domain.mapping.MainMissionUsers;
+import rabbit.umc.com.demo.mainmission.domain.mapping.MainMissionScoreLedger;
 import rabbit.umc.com.demo.mainmission.dto.GetMainMissionRes;
 import rabbit.umc.com.demo.mainmission.dto.GetMainMissionRes.MissionProofImageDto;
 import rabbit.umc.com.demo.mainmission.dto.GetMainMissionRes.RankDto;
+import rabbit.umc.com.demo.mainmission.dto.GetMyRankRes;
 import rabbit.umc.com.demo.mainmission.dto.MainMissionViewRes;
 import rabbit.umc.com.demo.mainmission.dto.PostMainMissionReq;
-import rabbit.umc.com.demo.mainmission.repository.LikeMissionProofRepository;
 import rabbit.umc.com.demo.mainmission.repository.MainMissionProofRepository;
 import rabbit.umc.com.demo.mainmission.repository.MainMissionRepository;
+import rabbit.umc.com.demo.mainmission.repository.MainMissionRepository.MissionPeriod;
+import rabbit.umc.com.demo.mainmission.repository.MainMissionScoreLedgerRepository;
 import rabbit.umc.com.demo.mainmission.repository.MainMissionUsersRepository;
+import rabbit.umc.com.demo.mainmission.service.RankTree.RankEntry;
 import rabbit.umc.com.demo.report.ReportService;
 import rabbit.umc.com.demo.user.Domain.User;
 import rabbit.umc.com.demo.user.service.UserQueryService;
+import rabbit.umc.com.s3.S3ObjectDeleteEvent;
 
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.List;
 import java.util.stream.Collectors;
-import rabbit.umc.com.demo.user.service.UserService;
 
 import static rabbit.umc.com.config.apiPayload.BaseResponseStatus.*;
 import static rabbit.umc.com.demo.base.Status.*;
@@ -51,38 +53,48 @@ import static rabbit.umc.com.demo.converter.MainMissionConverter.toMainMissionVi
 @Transactional(readOnly = true)
 public class MainMissionService {
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final int TOP_RANK_SIZE = 3;
+    private static final int AROUND_RANK_DISTANCE = 2;
 
     private final MainMissionRepository mainMissionRepository;
     private final MainMissionProofRepository mainMissionProofRepository;
-    private final LikeMissionProofRepository likeMissionProofRepository;
     private final CategoryRepository categoryRepository;
     private final MainMissionUsersRepository mainMissionUsersRepository;
+    private final MainMissionScoreLedgerRepository mainMissionScoreLedgerRepository;
     private final UserQueryService userQueryService;
-    private final UserService userService;
     private final ReportService reportService;
     private final ImageService imageService;
     private final CategoryService categoryService;
+    private final MissionProofLikeWriter missionProofLikeWriter;
+    private final LikedProofCache likedProofCache;
+    private final DailyProofRegistry dailyProofRegistry;
+    private final MissionProofGalleryCache missionProofGalleryCache;
+    private final MainMissionLeaderboard mainMissionLeaderboard;
+    private final ApplicationEventPublisher eventPublisher;
 
-    private List<MainMissionProof> findMainMissionProofByDay(MainMission mainMission, int day, Long mainMissionId){
-        LocalDateTime startDate = mainMission.getStartAt().atStartOfDay();
-        LocalDateTime targetDate = startDate.plusDays(day - 1);
-        LocalDateTime endDate = targetDate.plusDays(1);
-        return mainMissionProofRepository.findAllByMainMissionIdAndCreatedAtBetween(mainMissionId, targetDate, endDate);
+    private List<RankDto> getRank(Long mainMissionId){
+        List<RankEntry> top3 = mainMissionLeaderboard.top(mainMissionId, TOP_RANK_SIZE);
+        return RankConverter.toRankDtoList(top3, getUserNames(top3));
     }
 
-    private List<RankDto> getRank(Long mainMissionId){
-        List<MainMissionUsers> top3 = mainMissionUsersRepository.findTop3OByMainMissionIdOrderByScoreDesc(mainMissionId);
-        return top3.stream()
-                .map(RankConverter::toRankDto)
+    private Map<Long, String> getUserNames(List<RankEntry> entries){
+        List<Long> userIds = entries.stream()
+                .map(RankEntry::getUserId)
                 .collect(Collectors.toList());
+        return userQueryService.getUsers(userIds)
+                .stream()
+                .collect(Collectors.toMap(User::getId, User::getUserName));
     }
 
-    private void setLikesForMissionProofImages(List<MissionProofImageDto> missionProofImages, User user) {
-        List<LikeMissionProof> likeMissionProofs = likeMissionProofRepository.findLikeMissionProofByUser(user);
+    private void setLikesForMissionProofImages(List<MissionProofImageDto> missionProofImages, Long userId) {
+        List<Long> proofIds = missionProofImages.stream()
+                .map(MissionProofImageDto::getImageId)
+                .collect(Collectors.toList());
+        Predicate<Long> likedInDb = likedProofCache.likedAmong(userId, proofIds);
         for (MissionProofImageDto imageDto : missionProofImages) {
-            boolean isLiked = likeMissionProofs
-                    .stream()
-                    .anyMatch(likeProof -> likeProof.getMainMissionProof().getId().equals(imageDto.getImageId()));
+            // 아직 반영 전인 좋아요/취소가 있으면 버퍼 상태 우선
+            Boolean buffered = missionProofLikeWriter.bufferedState(userId, imageDto.getImageId());
+            boolean isLiked = buffered != null ? buffered : likedInDb.test(imageDto.getImageId());
             if (isLiked) {
                 imageDto.setIsLike();
             }
@@ -94,12 +106,10 @@ public class MainMissionService {
             MainMission mainMission = mainMissionRepository.getReferenceById(mainMissionId);
 
             // 해당하는 일차의 인증 사진 가져오기
-            List<MainMissionProof> mainMissionProofs = findMainMissionProofByDay(mainMission, day, mainMissionId);
-            List<MissionProofImageDto> missionProofImages = toMissionProofImageDto(mainMissionProofs);
+            List<MissionProofImageDto> missionProofImages = toMissionProofImageDto(missionProofGalleryCache.get(mainMission, day));
 
             // 좋아요 처리
-            User user = userQueryService.getUser(userId);
-            setLikesForMissionProofImages(missionProofImages, user);
+            setLikesForMissionProofImages(missionProofImages, userId);
 
             //mainMissionId 메인 미션 랭킹 가져오기
             List<RankDto> rankList = getRank(mainMissionId);
@@ -110,62 +120,41 @@ public class MainMissionService {
         }
     }
 
-    @Transactional
-    public void increaseLikeScore(MainMissionProof mainMissionProof){
-        MainMissionUsers missionUsers = mainMissionUsersRepository.findMainMissionUsersByUserAndAndMainMission(mainMissionProof.getUser(), mainMissionProof.getMainMission());
-        missionUsers.addLikeScore();
-        mainMissionUsersRepository.save(missionUsers);
+    /**
+     * 내 순위와 앞뒤 순위
+     */
+    public GetMyRankRes getMyRank(Long mainMissionId, Long userId) throws BaseException {
+        if (!mainMissionRepository.existsById(mainMissionId)) {
+            throw new BaseException(DONT_EXIST_MISSION);
+        }
+        List<RankEntry> aroundRank = mainMissionLeaderboard.around(mainMissionId, userId, AROUND_RANK_DISTANCE);
+        RankEntry myRank = aroundRank.stream()
+                .filter(entry -> entry.getUserId().equals(userId))
+                .findFirst()
+                .orElse(null);
+        return RankConverter.toGetMyRankRes(mainMissionId, myRank, mainMissionLeaderboard.size(mainMissionId),
+                RankConverter.toRankDtoList(aroundRank, getUserNames(aroundRank)));
     }
 
-    @Transactional
     public void likeMissionProof(Long userId, Long mainMissionProofId) throws BaseException {
-        try {
-            MainMissionProof mainMissionProof = mainMissionProofRepository.getReferenceById(mainMissionProofId);
-            User user = userQueryService.getUser(userId);
-
-            likeMissionProofRepository.findLikeMissionProofByUserAndMainMissionProofId(user, mainMissionProofId)
-                    .ifPresent( m -> {throw new IllegalStateException("이미 좋아요 눌른 사진");});
-
-            // 좋아요 1점 증가
-            increaseLikeScore(mainMissionProof);
-
-            //좋아요 여부 저장
-            likeMissionProofRepository.save(toLikeMissionProof(user, mainMissionProof));
-        } catch (EntityNotFoundException e) {
+        if (!mainMissionProofRepository.existsById(mainMissionProofId)) {
             throw new BaseException(DONT_EXIST_MISSION_PROOF);
-        }catch (IllegalStateException m){
+        }
+        // 좋아요 여부 저장과 작성자 점수 1점 증가는 MissionProofLikeWriter 가 모아서 반영
+        if (!missionProofLikeWriter.like(userId, mainMissionProofId)) {
             throw new BaseException(FAILED_TO_LIKE_MISSION);
         }
+        likedProofCache.update(userId, mainMissionProofId, true);
     }
 
-    @Transactional
-    public void decreaseLikeScore(MainMissionProof mainMissionProof){
-        MainMissionUsers missionUsers = mainMissionUsersRepository.findMainMissionUsersByUserAndAndMainMission(mainMissionProof.getUser(), mainMissionProof.getMainMission());
-        missionUsers.unLikeScore();
-        mainMissionUsersRepository.save(missionUsers);
-    }
-
-    @Transactional
     public void unLikeMissionProof(Long userId, Long mainMissionProofId) throws BaseException {
-        try {
-            MainMissionProof mainMissionProof = mainMissionProofRepository.getReferenceById(mainMissionProofId);
-            //인증사진 존재 체크
-            if (mainMissionProof.getProofImage() == null) {
-                throw new EntityNotFoundException("Unable to find proofId with id:" + mainMissionProofId);
-            }
-            User user = userQueryService.getUser(userId);
-            Optional<LikeMissionProof> findLikeMissionProof = likeMissionProofRepository.findLikeMissionProofByUserAndMainMissionProofId(user, mainMissionProofId);
-
-            if (findLikeMissionProof.isEmpty()) throw new BaseException(FAILED_TO_UNLIKE_MISSION);
-
-            // 좋아요 1점 감소 로직
-            decreaseLikeScore(mainMissionProof);
-            //좋아요 삭제
-            likeMissionProofRepository.delete(findLikeMissionProof.get());
-
-        } catch (EntityNotFoundException e) {
+        if (!mainMissionProofRepository.existsById(mainMissionProofId)) {
             throw new BaseException(DONT_EXIST_MISSION_PROOF);
         }
+        if (!missionProofLikeWriter.unlike(userId, mainMissionProofId)) {
+            throw new BaseException(FAILED_TO_UNLIKE_MISSION);
+        }
+        likedProofCache.update(userId, mainMissionProofId, false);
     }
 
     @Transactional
@@ -180,12 +169,9 @@ public class MainMissionService {
             if (reportService.isReport(userId, mainMissionProofId)) {
                 throw new BaseException(FAILED_TO_REPORT);
             }
-            //신고 저장
-            reportService.reportMissionProof(ReportConverter.toMissionProofReport(user, mainMissionProof));
-            //신고 횟수 15회 이상시 비활성화 처리
-            if (reportService.checkInactivation(mainMissionProofId, mainMissionProof)){
-                mainMissionProof.inActive();
-                mainMissionProofRepository.save(mainMissionProof);
+            //신고 저장, 신고 횟수 15회 이상시 비활성화 처리
+            if (reportService.reportMissionProof(ReportConverter.toMissionProofReport(user, mainMissionProof))) {
+                eventPublisher.publishEvent(new MissionProofChangedEvent(mainMissionProof.getMainMission().getId(), mainMissionProof.getMissionDay()));
             }
 
         } catch (EntityNotFoundException e) {
@@ -222,76 +208,53 @@ public class MainMissionService {
         //해당 카테고리 이전 미션 존재 시 이전 미션은 비활성화
         inactivateLastMission(lastMission);
         mainMissionRepository.save(toMainMission(postMainMissionReq, category));
+        eventPublisher.publishEvent(new CommunityHomeChangedEvent());
     }
 
-    @Transactional
+    // 유니크 제약 위반으로 리젝할 때도 참여/인증 insert 가 깔끔하게 롤백되도록 BaseException 도 롤백
+    @Transactional(rollbackFor = BaseException.class)
     public void uploadProofImage(MultipartFile multipartFile, Long categoryId, Long userId) throws BaseException, IOException {
+        MissionPeriod mission = mainMissionRepository.findPeriodByCategoryIdAndStatus(categoryId, ACTIVE)
+                .orElseThrow(() -> new BaseException(DONT_EXIST_MISSION));
+        Long mainMissionId = mission.getMainMissionId();
+        int missionDay = MainMission.dayOf(mission.getStartAt(), LocalDate.now());
 
-
-        MainMission mainMission = mainMissionRepository.findMainMissionByCategoryIdAndStatus(categoryId, ACTIVE);
-        User user = userQueryService.getUser(userId);
-
-        // 메인 미션 참여 아직 안했으면 참여 시키기
-        MainMissionUsers findUser = mainMissionUsersRepository.findMainMissionUsersByUserAndAndMainMission(user, mainMission);
-        if (findUser == null) {
-            mainMissionUsersRepository.save(toMainMissionUsers(user,  mainMission));
+        //만약 당일 이미 사진을 올렸으면 S3 업로드 전에 리젝 (다른 서버에서 올린 경우는 유니크 인덱스로 확인)
+        if (dailyProofRegistry.isUploaded(mainMissionId, userId)) {
+            throw new BaseException(FAILED_TO_UPLOAD);
         }
-        //만약 당일 이미 사진을 올렸으면 리젝
-        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
-        LocalDateTime endOfDay = LocalDateTime.now().toLocalDate().atTime(LocalTime.MAX);
-        List<MainMissionProof> proof = mainMissionProofRepository.findAllByUserAndCreatedAtBetween(user, startOfDay, endOfDay);
-        if (!proof.isEmpty()) {
+        if (mainMissionProofRepository.existsByUserIdAndMainMissionIdAndMissionDay(userId, mainMissionId, missionDay)) {
+            dailyProofRegistry.markUploaded(mainMissionId, userId);
             throw new BaseException(FAILED_TO_UPLOAD);
         }
+        if (!dailyProofRegistry.reserve(mainMissionId, userId)) {
+            throw new BaseException(FAILED_TO_UPLOAD);
+        }
+        // 메인 미션 참여 아직 안했으면 참여 시키기
+        mainMissionUsersRepository.joinIfAbsent(userId, mainMissionId);
         String filePath = imageService.createImageUrl(multipartFile, "mission");
-        // 10점 점수 획득
-        increaseUploadScore(user, mainMission);
-        //인증 사진 저장
-        mainMissionProofRepository.save(toMainMissionProof(filePath, user, mainMission));
-    }
-
-    @Transactional
-    public void increaseUploadScore(User user,MainMission mainMission){
-        MainMissionUsers missionUsers = mainMissionUsersRepository.findMainMissionUsersByUserAndAndMainMission(user, mainMission);
-        missionUsers.addProofScore();
-        mainMissionUsersRepository.save(missionUsers);
-    }
-
-    /**
-     * 스케줄러
-     * 묘방생 미션 종료시 권한 수정됨
-     */
-    @Transactional
-//    @Scheduled(cron = "0 * * * * ?")
-    @Scheduled(cron = "0 0 0 * * ?") // 매일 자정에 스케줄 실행
-    public void checkCompletedMainMissions() {
-        List<MainMission> completedMissions = mainMissionRepository.findMainMissionsByEndAtBeforeAndLastMissionTrue(LocalDate.now());
-        for (MainMission mainMission : completedMissions) {
-            List<MainMissionUsers> topScorers = mainMissionUsersRepository.findTopScorersByMainMissionOrderByScoreDesc(mainMission, PageRequest.of(0, 1));
-            if (!topScorers.isEmpty()) {
-                //이전 묘집사 강등
-                Long beforeUserId = mainMission.getCategory().getUser().getId();
-                User beforeUser =userQueryService.getUser(beforeUserId);
-                userService.changePermissionToUser(beforeUser);
-
-                MainMissionUsers topScorer = topScorers.get(0);
-                //유저 권한 변경
-                User newUser = topScorer.getUser();
-                userService.changePermissionToHost(newUser);
-
-                //해당 카테고리 묘집사 변경
-                changeCategoryHost(mainMission, newUser);
-                mainMission.setLastMission(Boolean.FALSE);
-                mainMissionRepository.save(mainMission);
-            }
+        // 아래에서 롤백되면(중복 업로드 등) 올린 파일은 S3 에서 삭제
+        eventPublisher.publishEvent(S3ObjectDeleteEvent.ifRolledBack(filePath));
+        //인증 사진 저장, 동시에 다른 서버로 올라온 중복 업로드는 유니크 제약에서 걸림
+        MainMissionProof mainMissionProof;
+        try {
+            mainMissionProof = mainMissionProofRepository.saveAndFlush(toMainMissionProof(filePath,
+                    userQueryService.getUser(userId), mainMissionRepository.getReferenceById(mainMissionId), missionDay));
+        } catch (DataIntegrityViolationException e) {
+            throw new BaseException(FAILED_TO_UPLOAD);
         }
+        // 10점 점수 획득
+        increaseUploadScore(mainMissionProof);
+        // 자정 직전 업로드가 커밋되기 전에 그 일차가 지난 일차로 캐시됐을 수 있음
+        eventPublisher.publishEvent(new MissionProofChangedEvent(mainMissionId, missionDay));
+        eventPublisher.publishEvent(new CommunityHomeChangedEvent());
     }
 
     @Transactional
-    public void changeCategoryHost(MainMission mainMission, User newUser){
-        Category category = mainMission.getCategory();
-        category.changeHostUser(newUser);
-        categoryRepository.save(category);
+    public void increaseUploadScore(MainMissionProof mainMissionProof){
+        // main_mission_users row 는 수정하지 않고 이력만 추가
+        MainMissionScoreLedger ledger = mainMissionScoreLedgerRepository.save(toUploadScoreLedger(mainMissionProof));
+        eventPublisher.publishEvent(new MainMissionScoreChangedEvent(ledger.getMainMissionId(), ledger.getUserId(), ledger.getDelta(), ledger.getId()));
     }
 
     public List<MainMissionViewRes> getMainMissionView(Long categoryId, Long userId) throws BaseException {
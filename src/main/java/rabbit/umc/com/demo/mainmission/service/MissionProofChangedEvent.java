@@ -0,0 +1,14 @@
+package rabbit.umc.com.demo.mainmission.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 인증 사진이 올라오거나 비활성화됨 (지난 일차 목록 캐시 무효화용)
+ */
+@Getter
+@AllArgsConstructor
+public class MissionProofChangedEvent {
+    private final Long mainMissionId;
+    private final int missionDay;
+}
@@ -0,0 +1,103 @@
+package rabbit.umc.com.demo.mainmission.service;
+
+import static rabbit.umc.com.demo.base.Status.ACTIVE;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import rabbit.umc.com.demo.mainmission.domain.MainMission;
+import rabbit.umc.com.demo.mainmission.repository.MainMissionProofRepository;
+import rabbit.umc.com.demo.mainmission.repository.MainMissionProofRepository.ProofGalleryItem;
+
+/**
+ * 메인 미션 일차별 인증 사진 목록
+ * 지난 일차는 더 이상 업로드가 없으므로 메모리에 두고, 오늘(이후) 일차만 매번 DB 에서 조회한다.
+ * 지난 일차라도 업로드/신고 비활성화가 있으면 MissionProofChangedEvent 로 해당 일차만 비운다.
+ * 좋아요 수는 자주 바뀌므로 비우지 않고 ttl 이 지나면 반영된다.
+ * 이벤트는 변경을 처리한 서버에만 오므로, 다른 서버에서 바뀐 내용도 ttl 이 지나면 반영된다.
+ */
+@Component
+public class MissionProofGalleryCache {
+    private final MainMissionProofRepository mainMissionProofRepository;
+    private final long ttlMillis;
+    private final Map<DayKey, Entry> galleries;
+    // 일차별 조회 중 표시, 조회하는 사이 그 일차가 비워지면 지워진다 (galleries 로 동기화)
+    private final Map<DayKey, Object> loadings = new HashMap<>();
+
+    public MissionProofGalleryCache(MainMissionProofRepository mainMissionProofRepository,
+                                    @Value("${mission.gallery-cache.ttl-ms:60000}") long ttlMillis,
+                                    @Value("${mission.gallery-cache.max-days:500}") int maxDays) {
+        this.mainMissionProofRepository = mainMissionProofRepository;
+        this.ttlMillis = ttlMillis;
+        this.galleries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<DayKey, Entry> eldest) {
+                return size() > maxDays;
+            }
+        };
+    }
+
+    public List<ProofGalleryItem> get(MainMission mainMission, int day) {
+        if (day >= mainMission.dayOf(LocalDate.now())) {
+            return load(mainMission.getId(), day);
+        }
+        DayKey key = new DayKey(mainMission.getId(), day);
+        Object loading = new Object();
+        synchronized (galleries) {
+            Entry cached = galleries.get(key);
+            if (cached != null && System.currentTimeMillis() - cached.loadedAt < ttlMillis) {
+                return cached.items;
+            }
+            loadings.put(key, loading);
+        }
+        List<ProofGalleryItem> loaded = null;
+        try {
+            loaded = load(mainMission.getId(), day);
+            return loaded;
+        } finally {
+            synchronized (galleries) {
+                // 조회하는 사이 이 일차가 무효화됐거나 더 나중에 시작한 조회가 있으면 캐시하지 않음
+                if (loadings.remove(key, loading) && loaded != null) {
+                    galleries.put(key, new Entry(loaded));
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evict(MissionProofChangedEvent event) {
+        DayKey key = new DayKey(event.getMainMissionId(), event.getMissionDay());
+        synchronized (galleries) {
+            loadings.remove(key);
+            galleries.remove(key);
+        }
+    }
+
+    private List<ProofGalleryItem> load(Long mainMissionId, int day) {
+        return Collections.unmodifiableList(mainMissionProofRepository.findGallery(mainMissionId, day, ACTIVE));
+    }
+
+    private static class Entry {
+        private final List<ProofGalleryItem> items;
+        private final long loadedAt = System.currentTimeMillis();
+
+        private Entry(List<ProofGalleryItem> items) {
+            this.items = items;
+        }
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class DayKey {
+        private final Long mainMissionId;
+        private final int day;
+    }
+}
@@ -0,0 +1,71 @@
+package rabbit.umc.com.demo.mainmission.service;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import rabbit.umc.com.config.SchedulingConfig;
+import rabbit.umc.com.demo.like.BufferedLikeWriter;
+import rabbit.umc.com.demo.mainmission.repository.LikeMissionProofRepository;
+import rabbit.umc.com.demo.mainmission.repository.MainMissionProofRepository;
+
+/**
+ * 메인 미션 인증 사진 좋아요 쓰기 지연 반영
+ */
+// 종료 시 남은 좋아요를 반영한 뒤 점수 버퍼가 비워지도록
+@DependsOn("mainMissionScoreWriter")
+@Component
+public class MissionProofLikeWriter extends BufferedLikeWriter {
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO like_mission_proof (user_id, main_mission_proof_id, status, created_at, updated_at) " +
+            "VALUES (?, ?, 'ACTIVE', NOW(), NOW())";
+    private static final String DELETE_SQL =
+            "DELETE FROM like_mission_proof WHERE user_id = ? AND main_mission_proof_id = ?";
+
+    private final LikeMissionProofRepository likeMissionProofRepository;
+    private final MainMissionProofRepository mainMissionProofRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public MissionProofLikeWriter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                  LikeMissionProofRepository likeMissionProofRepository,
+                                  MainMissionProofRepository mainMissionProofRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Qualifier(SchedulingConfig.FLUSH_TASK_SCHEDULER) TaskScheduler flushTaskScheduler,
+                                  @Value("${like.buffer.flush-delay-ms:300}") long flushDelayMillis) {
+        super(jdbcTemplate, transactionTemplate, flushTaskScheduler, flushDelayMillis);
+        this.likeMissionProofRepository = likeMissionProofRepository;
+        this.mainMissionProofRepository = mainMissionProofRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    protected String insertSql() {
+        return INSERT_SQL;
+    }
+
+    @Override
+    protected String deleteSql() {
+        return DELETE_SQL;
+    }
+
+    @Override
+    protected boolean existsInDb(Long userId, Long mainMissionProofId) {
+        return likeMissionProofRepository.existsByUserIdAndMainMissionProofId(userId, mainMissionProofId);
+    }
+
+    // 지난 일차 목록 캐시는 좋아요 수 때문에 비우지 않음 (MissionProofGalleryCache 의 ttl 로 반영)
+    @Override
+    protected void applyDelta(Long mainMissionProofId, int delta) {
+        mainMissionProofRepository.addLikeCount(mainMissionProofId, delta);
+        mainMissionProofRepository.findOwnerById(mainMissionProofId)
+                .ifPresent(owner -> {
+                    // 좋아요 1개당 인증 사진 작성자 1점, 점수 이력은 MainMissionScoreWriter 가 모아서 기록
+                    eventPublisher.publishEvent(
+                            new ProofLikeScoreEvent(owner.getMainMissionId(), owner.getUserId(), mainMissionProofId, delta));
+                });
+    }
+}
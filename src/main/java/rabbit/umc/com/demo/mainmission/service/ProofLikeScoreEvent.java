@@ -0,0 +1,16 @@
+package rabbit.umc.com.demo.mainmission.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 인증 사진 좋아요 반영으로 작성자가 얻거나 잃은 점수 (아직 점수 이력에 쌓기 전)
+ */
+@Getter
+@AllArgsConstructor
+public class ProofLikeScoreEvent {
+    private final Long mainMissionId;
+    private final Long userId;
+    private final Long mainMissionProofId;
+    private final int delta;
+}
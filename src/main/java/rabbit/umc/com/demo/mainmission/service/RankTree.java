@@ -0,0 +1,215 @@
+package rabbit.umc.com.demo.mainmission.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 한 미션의 (점수 내림차순, userId 오름차순) 순위표
+ * 서브트리 크기를 가진 treap 으로 갱신, 순위, k 번째 조회를 O(log n) 에 처리
+ */
+public class RankTree {
+    private final Map<Long, Integer> scores = new HashMap<>();
+    private Node root;
+
+    public synchronized void addScore(Long userId, int delta) {
+        Integer before = scores.get(userId);
+        int after = (before == null ? 0 : before) + delta;
+        if (before != null) {
+            root = remove(root, before, userId);
+        }
+        scores.put(userId, after);
+        root = insert(root, new Node(after, userId));
+    }
+
+    public synchronized void setScore(Long userId, int score) {
+        Integer before = scores.put(userId, score);
+        if (before != null) {
+            root = remove(root, before, userId);
+        }
+        root = insert(root, new Node(score, userId));
+    }
+
+    public synchronized int size() {
+        return scores.size();
+    }
+
+    /**
+     * @return 1 부터 시작하는 순위, 참여하지 않은 유저면 0
+     */
+    public synchronized int rankOf(Long userId) {
+        Integer score = scores.get(userId);
+        if (score == null) {
+            return 0;
+        }
+        int before = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = compare(score, userId, node);
+            if (cmp == 0) {
+                return before + size(node.left) + 1;
+            }
+            if (cmp < 0) {
+                node = node.left;
+            } else {
+                before += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 순위 fromRank 부터 최대 count 명 (순위는 1 부터)
+     */
+    public synchronized List<RankEntry> range(int fromRank, int count) {
+        List<RankEntry> entries = new ArrayList<>();
+        int from = Math.max(fromRank, 1);
+        int to = Math.min(from + count - 1, size(root));
+        for (int rank = from; rank <= to; rank++) {
+            Node node = select(rank);
+            entries.add(new RankEntry(node.userId, node.score, rank));
+        }
+        return entries;
+    }
+
+    public List<RankEntry> top(int count) {
+        return range(1, count);
+    }
+
+    /**
+     * 내 순위 앞뒤 distance 명씩
+     */
+    public synchronized List<RankEntry> around(Long userId, int distance) {
+        int rank = rankOf(userId);
+        if (rank == 0) {
+            return new ArrayList<>();
+        }
+        // 위쪽이 잘려도 아래쪽은 distance 명까지만
+        int from = Math.max(rank - distance, 1);
+        return range(from, rank + distance - from + 1);
+    }
+
+    private Node select(int rank) {
+        Node node = root;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (rank <= leftSize) {
+                node = node.left;
+            } else if (rank == leftSize + 1) {
+                return node;
+            } else {
+                rank -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        throw new IllegalStateException("rank out of range: " + rank);
+    }
+
+    private Node insert(Node node, Node target) {
+        if (node == null) {
+            return target;
+        }
+        if (target.priority > node.priority) {
+            Node[] parts = split(node, target.score, target.userId);
+            target.left = parts[0];
+            target.right = parts[1];
+            return update(target);
+        }
+        if (compare(target.score, target.userId, node) < 0) {
+            node.left = insert(node.left, target);
+        } else {
+            node.right = insert(node.right, target);
+        }
+        return update(node);
+    }
+
+    private Node remove(Node node, int score, Long userId) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(score, userId, node);
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = remove(node.left, score, userId);
+        } else {
+            node.right = remove(node.right, score, userId);
+        }
+        return update(node);
+    }
+
+    // (score, userId) 보다 앞 순위 / 나머지로 분리
+    private Node[] split(Node node, int score, Long userId) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (compare(score, userId, node) > 0) {
+            Node[] parts = split(node.right, score, userId);
+            node.right = parts[0];
+            return new Node[]{update(node), parts[1]};
+        }
+        Node[] parts = split(node.left, score, userId);
+        node.left = parts[1];
+        return new Node[]{parts[0], update(node)};
+    }
+
+    private Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return update(left);
+        }
+        right.left = merge(left, right.left);
+        return update(right);
+    }
+
+    // 음수면 (score, userId) 가 node 보다 높은 순위
+    private static int compare(int score, Long userId, Node node) {
+        if (score != node.score) {
+            return score > node.score ? -1 : 1;
+        }
+        return userId.compareTo(node.userId);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static Node update(Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+        return node;
+    }
+
+    private static class Node {
+        private final int score;
+        private final Long userId;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        private Node(int score, Long userId) {
+            this.score = score;
+            this.userId = userId;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RankEntry {
+        private Long userId;
+        private int score;
+        private int rank;
+    }
+}
@@ -0,0 +1,66 @@
+package rabbit.umc.com.demo.mainmission.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * (미션, 유저, 인증 사진) 별 점수 증감 누적
+ * 누적은 읽기 락 + LongAdder 라 서로 기다리지 않고, drain 할 때만 쓰기 락으로 맵을 통째로 교체한다.
+ */
+public class ScoreAccumulator {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private ConcurrentHashMap<ScoreKey, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public void add(Long mainMissionId, Long userId, Long sourceId, int delta) {
+        lock.readLock().lock();
+        try {
+            pending.computeIfAbsent(new ScoreKey(mainMissionId, userId, sourceId), key -> new LongAdder()).add(delta);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 모인 증감량을 꺼내고 비움 (합이 0 인 항목은 제외)
+     */
+    public Map<ScoreKey, Integer> drain() {
+        Map<ScoreKey, LongAdder> drained;
+        lock.writeLock().lock();
+        try {
+            drained = pending;
+            pending = new ConcurrentHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        // 교체 이후에는 drained 에 더하는 스레드가 없음
+        Map<ScoreKey, Integer> deltas = new HashMap<>();
+        drained.forEach((key, adder) -> {
+            long sum = adder.sum();
+            if (sum != 0) {
+                deltas.put(key, Math.toIntExact(sum));
+            }
+        });
+        return deltas;
+    }
+
+    // 반영에 실패한 증감량을 다음 drain 으로 넘김
+    public void restore(Map<ScoreKey, Integer> deltas) {
+        deltas.forEach((key, delta) -> add(key.getMainMissionId(), key.getUserId(), key.getSourceId(), delta));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class ScoreKey {
+        private Long mainMissionId;
+        private Long userId;
+        private Long sourceId;
+    }
+}
@@ -2,6 +2,7 @@ package rabbit.umc.com.demo.mission;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 import rabbit.umc.com.demo.base.BaseTimeEntity;
 import rabbit.umc.com.demo.base.Status;
 import rabbit.umc.com.demo.community.domain.Category;
@@ -11,12 +12,17 @@ import javax.persistence.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 @Entity
 @Getter
 @Setter
-@Table(name = "missions")
+@DynamicUpdate
+@Table(name = "missions", indexes = {
+        @Index(name = "idx_missions_feed", columnList = "status, is_open, start_at"),
+        @Index(name = "idx_missions_category_feed", columnList = "status, is_open, category_id, start_at")
+})
 public class Mission extends BaseTimeEntity {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "missions_id")
@@ -41,11 +47,30 @@ public class Mission extends BaseTimeEntity {
     @Column(name = "status")
     private Status status = Status.ACTIVE;
 
+    // 신고 수 (신고 저장시 UPDATE 쿼리로만 증가, 기준 이상이면 같은 쿼리에서 비활성화)
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int reportCount;
+
     @Column(nullable = false)
     private LocalDateTime startAt;
     @Column(nullable = false)
     private LocalDateTime endAt;
 
+    // 참여자 수, 성공자 수 (MissionRepository 의 UPDATE 쿼리로만 증감, 새벽에 실제 row 수로 보정)
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int challengerCnt;
+
+    @Column(nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int successCnt;
+
+    // 종료 후 성공 여부를 mission_user_success 에 반영했는지 (야간 평가 작업)
+    @Column(name = "success_evaluated", nullable = false, columnDefinition = "TINYINT(1) DEFAULT 0")
+    private boolean successEvaluated;
+
+    // 종료 후 참여 기록이 바뀔 때마다 증가, 평가 작업은 읽을 때의 값이 그대로일 때만 평가 완료로 표시
+    @Column(name = "progress_version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long progressVersion;
+
     public void toMission(PostMissionReq postMissionReq, Category category){
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
         LocalDateTime startAt = LocalDate.parse(postMissionReq.getStartAt(),formatter).atStartOfDay();
@@ -59,6 +84,20 @@ public class Mission extends BaseTimeEntity {
         this.category = category;
     }
 
+    // 시작일, 종료일 포함 미션 일 수
+    public int dayCount(){
+        return dayCount(startAt, endAt);
+    }
+
+    public static int dayCount(LocalDateTime startAt, LocalDateTime endAt){
+        return (int) ChronoUnit.DAYS.between(startAt.toLocalDate(), endAt.toLocalDate()) + 1;
+    }
+
+    // 시작일이 0, 기간 밖이면 -1
+    public int dayIndexOf(LocalDate date){
+        int index = (int) ChronoUnit.DAYS.between(startAt.toLocalDate(), date);
+        return index >= 0 && index < dayCount() ? index : -1;
+    }
 
 
 }
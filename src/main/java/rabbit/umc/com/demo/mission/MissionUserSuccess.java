@@ -11,11 +11,14 @@ import javax.persistence.*;
 @Entity
 @Getter
 @Setter
-@Table(name = "mission_user_success")
+// 예전 user_id 단독 유니크 인덱스는 MissionUserSuccessUserIndexMigration 이 제거
+@Table(name = "mission_user_success",
+        uniqueConstraints = @UniqueConstraint(name = "uk_mission_user_success", columnNames = {"mission_id", "user_id"}),
+        indexes = @Index(name = "idx_mission_user_success_user", columnList = "user_id"))
 public class MissionUserSuccess extends BaseTimeEntity {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
-    @OneToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -4,16 +4,19 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 import rabbit.umc.com.demo.base.BaseTimeEntity;
 import rabbit.umc.com.demo.base.Status;
 import rabbit.umc.com.demo.user.Domain.User;
 
 import javax.persistence.*;
+import java.util.BitSet;
 
 import static javax.persistence.GenerationType.IDENTITY;
 
 @Entity
 @Getter
+@DynamicUpdate
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "mission_users")
 public class MissionUsers extends BaseTimeEntity {
@@ -33,9 +36,41 @@ public class MissionUsers extends BaseTimeEntity {
     @Column(name = "status")
     private Status status = Status.ACTIVE;
 
+    // 미션 일정을 완료한 날 (미션 시작일이 0번 비트), 일정 등록/삭제 때 갱신
+    @Column(name = "completed_days", columnDefinition = "VARBINARY(1024)")
+    private byte[] completedDays;
+
     public MissionUsers(User user, Mission mission, Status status) {
         this.user = user;
         this.mission = mission;
         this.status = status;
+        this.completedDays = new byte[0];
+    }
+
+    public void markDay(int dayIndex, boolean completed) {
+        BitSet days = completedDaySet();
+        days.set(dayIndex, completed);
+        this.completedDays = days.toByteArray();
+    }
+
+    public void resetDays(BitSet days) {
+        this.completedDays = days.toByteArray();
+    }
+
+    public int completedDayCount() {
+        return countDays(completedDays);
+    }
+
+    public static int countDays(byte[] completedDays) {
+        return completedDays == null ? 0 : BitSet.valueOf(completedDays).cardinality();
+    }
+
+    // 미션 기간의 모든 날에 일정을 완료했으면 성공
+    public boolean isSucceeded() {
+        return completedDayCount() == mission.dayCount();
+    }
+
+    private BitSet completedDaySet() {
+        return completedDays == null ? new BitSet() : BitSet.valueOf(completedDays);
     }
 }
@@ -74,6 +74,48 @@ public class MissionController {
         }
     }
 
+    /**
+     * 미션 홈 커서 페이징
+     */
+    @Operation(summary = "일반 미션 리스트 커서 페이징 조회 API")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200",description = "OK, 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON406", description = "잘못된 커서 값",content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+    })
+    @Parameters({
+            @Parameter(name = "cursor", description = "이전 페이지 응답의 nextCursor 입니다. 첫 페이지는 생략합니다.")
+    })
+    @GetMapping("/cursor")
+    public BaseResponse<MissionFeedRes> getHomeByCursor(@RequestParam(required = false, name = "cursor") String cursor){
+        try {
+            return new BaseResponse<>(missionService.getMissionFeed(0L, cursor));
+        } catch (BaseException e) {
+            return new BaseResponse<>(e.getStatus());
+        }
+    }
+
+    /**
+     * 미션 카테고리 별 커서 페이징
+     */
+    @Operation(summary = "일반 미션 카테고리 별 리스트 커서 페이징 조회 API")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200",description = "OK, 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON406", description = "잘못된 커서 값",content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+    })
+    @Parameters({
+            @Parameter(name = "categoryId", description = "카테고리 아이디"),
+            @Parameter(name = "cursor", description = "이전 페이지 응답의 nextCursor 입니다. 첫 페이지는 생략합니다.")
+    })
+    @GetMapping("category/{categoryId}/cursor")
+    public BaseResponse<MissionFeedRes> getHomeByCategoryIdAndCursor(@PathVariable(name = "categoryId") Long categoryId,
+                                                                    @RequestParam(required = false, name = "cursor") String cursor){
+        try {
+            return new BaseResponse<>(missionService.getMissionFeed(categoryId, cursor));
+        } catch (BaseException e) {
+            return new BaseResponse<>(e.getStatus());
+        }
+    }
+
     /**
      * 미션 생성
      */
@@ -50,7 +50,7 @@ public class GetMyMissionRes {
                 mission.getId(),
                 mission.getTitle(),
                 dDay,
-                mission.getMissionUsers().size(),
+                mission.getChallengerCnt(),
                 mission.getCategory().getId(),
                 mission.getCategory().getImage(),
                 during
@@ -0,0 +1,19 @@
+package rabbit.umc.com.demo.mission.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MissionFeedRes {
+
+    private List<MissionHomeRes> missionList;
+
+    private boolean hasNext;
+
+    // 다음 페이지 커서 (마지막 페이지면 null)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+}
@@ -1,5 +1,6 @@
 package rabbit.umc.com.demo.mission.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -35,37 +36,42 @@ public class MissionHomeRes {
     private int successCnt;
     @Schema(example = "D+n")
     private String dDay;
+    // 커서 페이징용 시작 시각
+    @JsonIgnore
+    private LocalDateTime startDateTime;
 
-    public static MissionHomeRes toMissionHomeRes(Mission mission){
-
-        String startAt = mission.getStartAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-        String endAt = mission.getEndAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-
-//        System.out.println("mission = " + mission.getMissionUsers().size());
-        LocalDate targetDateTime = mission.getStartAt().toLocalDate();
-        LocalDate currentDateTime = LocalDateTime.now().toLocalDate();
-        long daysUntilTarget = ChronoUnit.DAYS.between(currentDateTime, targetDateTime); // 현재 날짜와 대상 날짜 사이의 일 수 계산
-        String dDay;
-        if (daysUntilTarget > 0) {
-            dDay = "D-" + daysUntilTarget;
-        } else if (daysUntilTarget == 0) {
-            dDay = "D-day";
-        } else {
-            dDay = "D+" + Math.abs(daysUntilTarget);
-        }
+    // 미션 홈 피드 쿼리의 생성자 projection
+    public MissionHomeRes(Long missionId, String title, String content, int challengerCnt,
+                          LocalDateTime startAt, LocalDateTime endAt, Long categoryId, String image, int successCnt) {
+        this(missionId, title, content, challengerCnt,
+                startAt.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")),
+                endAt.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")),
+                categoryId, image, successCnt, toDDay(startAt), startAt);
+    }
 
+    public static MissionHomeRes toMissionHomeRes(Mission mission){
         return new MissionHomeRes(
                 mission.getId(),
                 mission.getTitle(),
                 mission.getContent(),
-                mission.getMissionUsers().size(),
-                startAt,
-                endAt,
+                mission.getChallengerCnt(),
+                mission.getStartAt(),
+                mission.getEndAt(),
                 mission.getCategory().getId(),
                 mission.getCategory().getImage(),
-                mission.getMissionUserSuccessList().size(),
-                dDay
+                mission.getSuccessCnt()
         );
+    }
 
+    private static String toDDay(LocalDateTime startAt){
+        LocalDate targetDateTime = startAt.toLocalDate();
+        LocalDate currentDateTime = LocalDateTime.now().toLocalDate();
+        long daysUntilTarget = ChronoUnit.DAYS.between(currentDateTime, targetDateTime); // 현재 날짜와 대상 날짜 사이의 일 수 계산
+        if (daysUntilTarget > 0) {
+            return "D-" + daysUntilTarget;
+        } else if (daysUntilTarget == 0) {
+            return "D-day";
+        }
+        return "D+" + Math.abs(daysUntilTarget);
     }
 }
@@ -0,0 +1,45 @@
+package rabbit.umc.com.demo.mission.migration;
+
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import rabbit.umc.com.migration.SchemaMigration;
+
+/**
+ * 예전 @OneToOne 매핑이 만든 mission_user_success.user_id 단독 유니크 인덱스 제거
+ * ddl-auto 는 인덱스를 지우지 않아, 남아 있으면 한 유저가 두 번째 미션에 성공한 기록을 넣을 수 없다.
+ * user_id FK 가 쓸 일반 인덱스를 먼저 만든 뒤 지운다. (MySQL 은 FK 컬럼에 인덱스가 있어야 함)
+ */
+@Slf4j
+@Component
+public class MissionUserSuccessUserIndexMigration implements SchemaMigration {
+    private static final String USER_INDEX = "idx_mission_user_success_user";
+
+    private static final String UNIQUE_USER_INDEXES_SQL =
+            "SELECT index_name FROM information_schema.statistics " +
+            "WHERE table_schema = DATABASE() AND table_name = 'mission_user_success' AND non_unique = 0 AND index_name <> 'PRIMARY' " +
+            "GROUP BY index_name HAVING COUNT(*) = 1 AND MAX(column_name) = 'user_id'";
+
+    @Override
+    public int version() {
+        return 2;
+    }
+
+    @Override
+    public String description() {
+        return "drop the legacy unique index on mission_user_success.user_id";
+    }
+
+    @Override
+    public void migrate(JdbcTemplate jdbcTemplate) {
+        if (!SchemaMigration.indexExists(jdbcTemplate, "mission_user_success", USER_INDEX)) {
+            jdbcTemplate.execute("CREATE INDEX " + USER_INDEX + " ON mission_user_success (user_id)");
+        }
+        List<String> uniqueIndexes = jdbcTemplate.queryForList(UNIQUE_USER_INDEXES_SQL, String.class);
+        for (String indexName : uniqueIndexes) {
+            jdbcTemplate.execute("DROP INDEX `" + indexName + "` ON mission_user_success");
+            log.info("mission_user_success legacy unique index dropped: {}", indexName);
+        }
+    }
+}
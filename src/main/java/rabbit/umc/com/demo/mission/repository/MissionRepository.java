@@ -1,12 +1,14 @@
 package rabbit.umc.com.demo.mission.repository;
 
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import rabbit.umc.com.demo.base.Status;
 import rabbit.umc.com.demo.mission.Mission;
+import rabbit.umc.com.demo.mission.dto.MissionHomeRes;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -17,8 +19,34 @@ public interface MissionRepository extends JpaRepository<Mission,Long> {
     @Query("select m from Mission m join MissionUsers ms on m.id = ms.mission.id where m.isOpen = 0 and DATE(m.endAt) >= :now")
     List<Mission> getHome(@Param(value = "now") LocalDateTime now);
 
-    @Query("select m from Mission m left join fetch m.category where m.category.id = :missionCategoryId and m.isOpen = :isOpen and m.startAt >= :now and m.status = :active order by m.startAt")
-    List<Mission> getMissionByMissionCategoryIdOrderByStartAt(@Param("active") Status active, @Param("now") LocalDateTime now, @Param("isOpen") int isOpen, @Param("missionCategoryId") Long missionCategryId, PageRequest pageRequest);
+    String HOME_FEED_SELECT = "select new rabbit.umc.com.demo.mission.dto.MissionHomeRes(" +
+            "m.id, m.title, m.content, m.challengerCnt, m.startAt, m.endAt, c.id, c.image, m.successCnt) " +
+            "from Mission m join m.category c ";
+
+    // 미션 홈 카드 (참여자/성공자 컬렉션 대신 카운터 컬럼)
+    @Query(HOME_FEED_SELECT + "where m.status = :active and m.startAt > :now and m.isOpen = :isOpen order by m.startAt, m.id")
+    List<MissionHomeRes> findHomeFeed(@Param("active") Status active, @Param("now") LocalDateTime now,
+                                      @Param("isOpen") int isOpen, Pageable pageable);
+
+    // 커서 (startAt, missionId) 이후, 첫 페이지는 (now, 0)
+    @Query(HOME_FEED_SELECT + "where m.status = :active and m.isOpen = :isOpen and m.startAt > :now " +
+            "and (m.startAt > :startAt or (m.startAt = :startAt and m.id > :missionId)) order by m.startAt, m.id")
+    List<MissionHomeRes> findHomeFeedAfter(@Param("active") Status active, @Param("now") LocalDateTime now,
+                                           @Param("isOpen") int isOpen,
+                                           @Param("startAt") LocalDateTime startAt, @Param("missionId") Long missionId,
+                                           Pageable pageable);
+
+    @Query(HOME_FEED_SELECT + "where m.status = :active and m.isOpen = :isOpen and c.id = :missionCategoryId and m.startAt >= :now " +
+            "and (m.startAt > :startAt or (m.startAt = :startAt and m.id > :missionId)) order by m.startAt, m.id")
+    List<MissionHomeRes> findHomeFeedByCategoryIdAfter(@Param("active") Status active, @Param("now") LocalDateTime now,
+                                                       @Param("isOpen") int isOpen, @Param("missionCategoryId") Long missionCategoryId,
+                                                       @Param("startAt") LocalDateTime startAt, @Param("missionId") Long missionId,
+                                                       Pageable pageable);
+
+    @Query(HOME_FEED_SELECT + "where c.id = :missionCategoryId and m.isOpen = :isOpen and m.startAt >= :now and m.status = :active order by m.startAt, m.id")
+    List<MissionHomeRes> findHomeFeedByCategoryId(@Param("active") Status active, @Param("now") LocalDateTime now,
+                                                  @Param("isOpen") int isOpen, @Param("missionCategoryId") Long missionCategoryId,
+                                                  Pageable pageable);
 //    @Query("select m from Mission m where m.status = 'ACTIVE' and m.isOpen = 0 order by m.startAt")
 //    List<Mission> getMissions(PageRequest pageRequest);
     Mission getMissionByIdAndEndAtIsBeforeOrderByEndAt(Long id, LocalDateTime currentDateTime);
@@ -28,6 +56,46 @@ public interface MissionRepository extends JpaRepository<Mission,Long> {
     List<Mission> getMissionsByIdIsIn(List ids);
 
     Mission getMissionByIdAndEndAtIsBefore(Long id, LocalDateTime now);
+
+    // 성공 여부를 아직 반영하지 않은 종료 미션 (id 순 chunk)
+    @Query("select m.id as missionId, m.startAt as startAt, m.endAt as endAt, m.progressVersion as progressVersion from Mission m " +
+            "where m.endAt < :endedBefore and m.successEvaluated = false and m.id > :afterId order by m.id")
+    List<EndedMission> findUnevaluatedEndedMissions(@Param("endedBefore") LocalDateTime endedBefore,
+                                                    @Param("afterId") Long afterId,
+                                                    Pageable pageable);
+
+    // 평가가 끝났거나 평가 중인 미션의 참여 기록이 바뀌면 다음 평가 작업에서 다시 평가
+    // 버전을 올려 두어, 바뀌기 전 기록을 읽은 평가 작업이 평가 완료로 덮어쓰지 못하게 함
+    @Modifying
+    @Query("update Mission m set m.successEvaluated = false, m.progressVersion = m.progressVersion + 1 where m.id = :missionId")
+    int reopenSuccessEvaluation(@Param("missionId") Long missionId);
+
+    @Modifying
+    @Query("update Mission m set m.challengerCnt = m.challengerCnt + :delta where m.id in :missionIds")
+    int addChallengerCnt(@Param("missionIds") List<Long> missionIds, @Param("delta") int delta);
+
+    // 평가 작업이 insert 한 성공 row 수로 다시 계산 (재실행해도 중복 증가하지 않음)
+    @Modifying
+    @Query(value = "UPDATE missions m SET m.success_cnt = " +
+            "(SELECT COUNT(*) FROM mission_user_success s WHERE s.mission_id = m.missions_id) " +
+            "WHERE m.missions_id IN (:missionIds)", nativeQuery = true)
+    int recountSuccessCnt(@Param("missionIds") List<Long> missionIds);
+
+    // 실제 참여/성공 row 수와 어긋난 카운터만 다시 맞춤
+    @Modifying
+    @Query(value = "UPDATE missions m " +
+            "LEFT JOIN (SELECT mission_id, COUNT(*) AS cnt FROM mission_users GROUP BY mission_id) mu ON mu.mission_id = m.missions_id " +
+            "LEFT JOIN (SELECT mission_id, COUNT(*) AS cnt FROM mission_user_success GROUP BY mission_id) s ON s.mission_id = m.missions_id " +
+            "SET m.challenger_cnt = COALESCE(mu.cnt, 0), m.success_cnt = COALESCE(s.cnt, 0) " +
+            "WHERE m.challenger_cnt <> COALESCE(mu.cnt, 0) OR m.success_cnt <> COALESCE(s.cnt, 0)", nativeQuery = true)
+    int reconcileCounts();
+
+    interface EndedMission {
+        Long getMissionId();
+        LocalDateTime getStartAt();
+        LocalDateTime getEndAt();
+        Long getProgressVersion();
+    }
 //
 //    @Query("SELECT m FROM Mission m " +
 //        "LEFT JOIN fetch m.category " +
@@ -38,11 +106,14 @@ public interface MissionRepository extends JpaRepository<Mission,Long> {
 //                              @Param("isOpen") int isOpen,
 //                              @Param("status") Status status,
 //                                            PageRequest pageRequest);
-    List<Mission> findAllByStatusAndStartAtAfterAndIsOpenOrderByStartAt(Status active, LocalDateTime now, int isOpen, PageRequest pageRequest);
 
 
-    Mission findByIdAndEndAtIsAfterAndStatusAndIsOpenOrderByEndAt(Long id, LocalDateTime currentDateTime, Status status,int isOpen);
 
     Mission getMissionByTitle(String title);
 
+    // 신고 수 증가 + 기준 이상이면 비활성화
+    @Modifying
+    @Query(value = "UPDATE missions SET status = CASE WHEN report_count + 1 >= :limit THEN 'INACTIVE' ELSE status END, " +
+            "report_count = report_count + 1 WHERE missions_id = :missionId", nativeQuery = true)
+    int increaseReportCount(@Param("missionId") Long missionId, @Param("limit") int limit);
 }
@@ -1,6 +1,8 @@
 package rabbit.umc.com.demo.mission.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import rabbit.umc.com.demo.mission.MissionUserSuccess;
 
 import java.util.List;
@@ -11,6 +13,15 @@ public interface MissionUserSuccessRepository extends JpaRepository<MissionUserS
 
     List<MissionUserSuccess> getMissionUserSuccessByMissionId(Long id);
 
+    // 재평가 시 이미 기록된 성공 (새로 넣을 것과 지울 것을 가르는 용도)
+    @Query("select s.mission.id as missionId, s.user.id as userId from MissionUserSuccess s where s.mission.id in :missionIds")
+    List<SuccessKey> findSuccessKeys(@Param("missionIds") List<Long> missionIds);
+
 
 //    List<MissionUserSuccess> getMissionUserSuccessByMissionId(Long id);
+
+    interface SuccessKey {
+        Long getMissionId();
+        Long getUserId();
+    }
 }
@@ -1,22 +1,56 @@
 package rabbit.umc.com.demo.mission.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import rabbit.umc.com.demo.base.Status;
 import rabbit.umc.com.demo.mission.Mission;
 import rabbit.umc.com.demo.mission.MissionUsers;
+import rabbit.umc.com.demo.schedule.dto.MissionListDto;
 
+import javax.persistence.LockModeType;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface MissionUsersRepository extends JpaRepository<MissionUsers,Long> {
 
-    List<MissionUsers> getMissionUsersByUserId(Long userId);
-    List<MissionUsers> getMissionUsersByUserIdAndMissionEndAtIsBefore(Long userId, LocalDateTime now);
+    // 일정 홈의 진행 중인 미션 (시작일 순)
+    @Query("select new rabbit.umc.com.demo.schedule.dto.MissionListDto(m.id, m.title, m.challengerCnt, m.startAt) " +
+            "from MissionUsers mu join mu.mission m " +
+            "where mu.user.id = :userId and m.endAt > :now and m.status = :status and m.isOpen = :isOpen " +
+            "order by m.startAt asc, m.id asc")
+    List<MissionListDto> findOngoingMissionList(@Param("userId") Long userId, @Param("now") LocalDateTime now,
+                                                @Param("status") Status status, @Param("isOpen") int isOpen);
+    // 종료된 미션 참여 기록, 성공 여부는 completedDays 로 판단
+    @Query("select mu from MissionUsers mu join fetch mu.mission m join fetch m.category " +
+            "where mu.user.id = :userId and m.endAt < :now order by m.id")
+    List<MissionUsers> findEndedWithMission(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    // 일정 연결/해제 때 완료한 날 갱신용
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select mu from MissionUsers mu join fetch mu.mission where mu.mission.id = :missionId and mu.user.id = :userId")
+    Optional<MissionUsers> findForUpdate(@Param("missionId") Long missionId, @Param("userId") Long userId);
+
+    // 종료 미션 성공 평가용 (미션, 유저, 완료한 날)
+    @Query("select mu.mission.id as missionId, mu.user.id as userId, mu.completedDays as completedDays " +
+            "from MissionUsers mu where mu.mission.id in :missionIds")
+    List<Participation> findParticipations(@Param("missionIds") List<Long> missionIds);
+
+    interface Participation {
+        Long getMissionId();
+        Long getUserId();
+        byte[] getCompletedDays();
+    }
+
+    // completed_days 컬럼 추가 전 참여 기록
+    @Query("select mu from MissionUsers mu join fetch mu.mission where mu.completedDays is null")
+    List<MissionUsers> findWithoutCompletedDays(Pageable pageable);
 
     MissionUsers getMissionUsersByMissionIdAndUserId(long missionId,long userId);
 
@@ -24,7 +58,7 @@ public interface MissionUsersRepository extends JpaRepository<MissionUsers,Long>
     List<MissionUsers> getMissionUsersByMissionIdAndUserId(@Param("missionIds") List<Long> missionIds,@Param("userId") long userId);
 
 
-    void deleteByMissionIdAndUserId(Long missionId, long userId);
+    long deleteByMissionIdAndUserId(Long missionId, long userId);
 
     List<MissionUsers> getMissionUsersByUserIdAndMissionEndAtIsAfterAndMissionStatusAndMissionIsOpen(long userId, LocalDateTime currentDateTime, Status active, int isOpen);
 
@@ -0,0 +1,198 @@
+package rabbit.umc.com.demo.mission.service;
+
+import static rabbit.umc.com.demo.mission.service.MissionServiceImpl.PAGING_SIZE;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PreDestroy;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import rabbit.umc.com.demo.mission.dto.MissionFeedRes;
+import rabbit.umc.com.demo.mission.dto.MissionHomeRes;
+import rabbit.umc.com.demo.mission.repository.MissionRepository;
+import rabbit.umc.com.utils.CursorUtil;
+import rabbit.umc.com.utils.CursorUtil.Cursor;
+
+import static rabbit.umc.com.demo.base.Status.ACTIVE;
+
+/**
+ * 미션 홈 커서 피드 캐시 ((카테고리, 커서) 별 한 페이지)
+ * 모든 유저에게 같은 결과라 1분 단위로 다시 만든다.
+ * 분이 바뀐 뒤 첫 요청은 이전 결과를 바로 돌려주고 백그라운드에서 한 번만 다시 조회하며,
+ * 캐시에 없는 페이지는 동시에 들어온 요청들이 하나의 조회 결과를 기다린다.
+ */
+@Slf4j
+@Component
+public class MissionFeedCache {
+    private static final long BUCKET_MILLIS = 60_000L;
+
+    private final MissionRepository missionRepository;
+    private final long maxStaleMillis;
+    private final Map<Key, CompletableFuture<Page>> pages;
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor();
+
+    // 다시 조회하는 중 무효화가 일어났는지 확인용
+    private final AtomicLong version = new AtomicLong();
+
+    public MissionFeedCache(MissionRepository missionRepository,
+                            @Value("${mission.feed-cache.max-stale-ms:600000}") long maxStaleMillis,
+                            @Value("${mission.feed-cache.max-entries:1000}") int maxEntries) {
+        this.missionRepository = missionRepository;
+        this.maxStaleMillis = maxStaleMillis;
+        // 오래 안 본 페이지부터 제거
+        this.pages = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CompletableFuture<Page>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    // categoryId 가 0 이면 전체, cursor 가 null 이면 첫 페이지
+    public MissionFeedRes get(Long categoryId, Cursor cursor) {
+        Key key = cursor == null ? new Key(categoryId, null, null) : new Key(categoryId, cursor.getTime(), cursor.getId());
+        CompletableFuture<Page> future;
+        boolean loader = false;
+        synchronized (pages) {
+            future = pages.get(key);
+            if (future == null || isUnusable(future)) {
+                future = new CompletableFuture<>();
+                pages.put(key, future);
+                loader = true;
+            }
+        }
+        if (loader) {
+            return loadInto(key, future).res;
+        }
+
+        Page page;
+        try {
+            page = future.join();
+        } catch (CompletionException e) {
+            // 기다리던 조회가 실패했으면 직접 조회
+            return load(key).res;
+        }
+        if (page.bucket < currentBucket() && page.refreshing.compareAndSet(false, true)) {
+            refresher.execute(() -> refresh(key, page));
+        }
+        return page.res;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void invalidate(MissionFeedChangedEvent event) {
+        version.incrementAndGet();
+        synchronized (pages) {
+            pages.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    // 실패했거나 너무 오래된 결과는 백그라운드 갱신을 기다리지 않고 다시 조회
+    private boolean isUnusable(CompletableFuture<Page> future) {
+        if (!future.isDone()) {
+            return false;
+        }
+        if (future.isCompletedExceptionally()) {
+            return true;
+        }
+        return System.currentTimeMillis() - future.join().builtAt > maxStaleMillis;
+    }
+
+    private Page loadInto(Key key, CompletableFuture<Page> future) {
+        try {
+            Page page = load(key);
+            future.complete(page);
+            return page;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            synchronized (pages) {
+                pages.remove(key, future);
+            }
+            throw e;
+        }
+    }
+
+    private void refresh(Key key, Page stale) {
+        long startVersion = version.get();
+        try {
+            Page page = load(key);
+            synchronized (pages) {
+                CompletableFuture<Page> current = pages.get(key);
+                if (version.get() == startVersion && current != null && current.getNow(null) == stale) {
+                    pages.put(key, CompletableFuture.completedFuture(page));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("mission feed refresh failed: {}", key, e);
+            stale.refreshing.set(false);
+        }
+    }
+
+    private Page load(Key key) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime startAt = key.startAt == null ? now : key.startAt;
+        Long missionId = key.missionId == null ? 0L : key.missionId;
+
+        // 다음 페이지 존재 여부 확인을 위해 한 개 더 조회
+        PageRequest pageRequest = PageRequest.of(0, PAGING_SIZE + 1);
+        List<MissionHomeRes> missionList;
+        if (key.categoryId == 0) {
+            missionList = missionRepository.findHomeFeedAfter(ACTIVE, now, 0, startAt, missionId, pageRequest);
+        } else {
+            missionList = missionRepository.findHomeFeedByCategoryIdAfter(ACTIVE, now, 0, key.categoryId, startAt, missionId, pageRequest);
+        }
+
+        boolean hasNext = missionList.size() > PAGING_SIZE;
+        String nextCursor = null;
+        if (hasNext) {
+            missionList = List.copyOf(missionList.subList(0, PAGING_SIZE));
+            MissionHomeRes last = missionList.get(PAGING_SIZE - 1);
+            nextCursor = CursorUtil.encode(last.getStartDateTime(), last.getMissionId());
+        }
+        return new Page(new MissionFeedRes(missionList, hasNext, nextCursor));
+    }
+
+    private static long currentBucket() {
+        return System.currentTimeMillis() / BUCKET_MILLIS;
+    }
+
+    private static class Page {
+        private final MissionFeedRes res;
+        private final long builtAt;
+        private final long bucket;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Page(MissionFeedRes res) {
+            this.res = res;
+            this.builtAt = System.currentTimeMillis();
+            this.bucket = builtAt / BUCKET_MILLIS;
+        }
+    }
+
+    @ToString
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class Key {
+        private final Long categoryId;
+        private final LocalDateTime startAt;
+        private final Long missionId;
+    }
+}
@@ -0,0 +1,7 @@
+package rabbit.umc.com.demo.mission.service;
+
+/**
+ * 미션 홈 피드에 보이는 미션이 바뀌었을 때 발행 (미션 생성, 신고)
+ */
+public class MissionFeedChangedEvent {
+}
@@ -0,0 +1,107 @@
+package rabbit.umc.com.demo.mission.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import rabbit.umc.com.demo.mission.Mission;
+import rabbit.umc.com.demo.mission.MissionUsers;
+import rabbit.umc.com.demo.mission.repository.MissionRepository;
+import rabbit.umc.com.demo.mission.repository.MissionUsersRepository;
+import rabbit.umc.com.demo.schedule.domain.MissionSchedule;
+import rabbit.umc.com.demo.schedule.domain.Schedule;
+import rabbit.umc.com.demo.schedule.repository.MissionScheduleRepository;
+
+/**
+ * 미션 참여 기록(MissionUsers)의 완료한 날 비트셋 관리
+ * 일정이 미션에 연결/해제될 때 그 날의 비트만 바꾸고, 성공 여부는 비트 수 == 미션 일 수 로 판단한다.
+ * 이미 성공 여부를 확정한 종료 미션의 기록이 바뀌면 평가 완료 표시를 되돌려 다음 평가 작업에서 다시 확정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MissionProgressRecorder {
+    private static final int BACKFILL_CHUNK_SIZE = 500;
+
+    private final MissionUsersRepository missionUsersRepository;
+    private final MissionRepository missionRepository;
+    private final MissionScheduleRepository missionScheduleRepository;
+
+    @Transactional
+    public void linked(Mission mission, Schedule schedule) {
+        Long userId = schedule.getUser().getId();
+        LocalDate day = schedule.getEndAt().toLocalDate();
+        int dayIndex = mission.dayIndexOf(day);
+        if (dayIndex < 0) {
+            return;
+        }
+        missionUsersRepository.findForUpdate(mission.getId(), userId)
+                .ifPresent(missionUsers -> markDay(mission, missionUsers, dayIndex, true));
+    }
+
+    // 같은 날 미션에 연결된 다른 일정이 남아 있으면 완료 상태 유지
+    @Transactional
+    public void unlinked(Mission mission, Schedule schedule) {
+        Long userId = schedule.getUser().getId();
+        LocalDate day = schedule.getEndAt().toLocalDate();
+        int dayIndex = mission.dayIndexOf(day);
+        if (dayIndex < 0) {
+            return;
+        }
+        long others = missionScheduleRepository.countOtherLinkedOnDay(mission.getId(), userId, schedule.getId(),
+                day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+        if (others > 0) {
+            return;
+        }
+        missionUsersRepository.findForUpdate(mission.getId(), userId)
+                .ifPresent(missionUsers -> markDay(mission, missionUsers, dayIndex, false));
+    }
+
+    @Transactional
+    public void unlinked(List<MissionSchedule> missionSchedules) {
+        missionSchedules.stream()
+                .filter(ms -> ms.getMission() != null && ms.getSchedule() != null)
+                .forEach(ms -> unlinked(ms.getMission(), ms.getSchedule()));
+    }
+
+    // 평가 대상이 된 미션(MissionSuccessEvaluator 와 같은 기준)만 되돌림, 진행중 미션 row 에 매번 쓰기 락을 잡지 않도록
+    private void markDay(Mission mission, MissionUsers missionUsers, int dayIndex, boolean completed) {
+        missionUsers.markDay(dayIndex, completed);
+        if (mission.getEndAt().isBefore(LocalDateTime.now().minusDays(1))) {
+            missionRepository.reopenSuccessEvaluation(mission.getId());
+        }
+    }
+
+    // 비트셋 컬럼 추가 전의 참여 기록은 연결된 일정으로 한 번 채움
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillCompletedDays() {
+        int filled = 0;
+        List<MissionUsers> chunk;
+        do {
+            chunk = missionUsersRepository.findWithoutCompletedDays(PageRequest.of(0, BACKFILL_CHUNK_SIZE));
+            for (MissionUsers missionUsers : chunk) {
+                Mission mission = missionUsers.getMission();
+                BitSet days = new BitSet();
+                for (LocalDateTime at : missionScheduleRepository.findLinkedScheduleDates(mission.getId(), missionUsers.getUser().getId())) {
+                    int dayIndex = mission.dayIndexOf(at.toLocalDate());
+                    if (dayIndex >= 0) {
+                        days.set(dayIndex);
+                    }
+                }
+                missionUsers.resetDays(days);
+            }
+            filled += chunk.size();
+        } while (chunk.size() == BACKFILL_CHUNK_SIZE);
+        if (filled > 0) {
+            log.info("mission_users completed_days backfill: {} rows", filled);
+        }
+    }
+}
@@ -12,6 +12,8 @@ public interface MissionService {
 
     List<MissionHomeRes> getMissionByMissionCategoryId(Long categoryId, int page) throws BaseException;
 
+    MissionFeedRes getMissionFeed(Long categoryId, String cursor) throws BaseException;
+
     MissionHistoryRes getSuccessMissions(Long userId);
 
     List<GetMyMissionRes> getMyMissions(long userId);
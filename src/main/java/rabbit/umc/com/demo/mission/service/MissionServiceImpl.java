@@ -1,8 +1,12 @@
 package rabbit.umc.com.demo.mission.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import rabbit.umc.com.config.apiPayload.BaseException;
@@ -16,25 +20,28 @@ import rabbit.umc.com.demo.mission.repository.MissionUserSuccessRepository;
 import rabbit.umc.com.demo.mission.repository.MissionUsersRepository;
 import rabbit.umc.com.demo.report.Report;
 import rabbit.umc.com.demo.report.ReportRepository;
+import rabbit.umc.com.demo.report.ReportService;
 import rabbit.umc.com.demo.schedule.domain.MissionSchedule;
 import rabbit.umc.com.demo.schedule.domain.Schedule;
 import rabbit.umc.com.demo.schedule.repository.MissionScheduleRepository;
 import rabbit.umc.com.demo.schedule.repository.ScheduleRepository;
+import rabbit.umc.com.demo.schedule.service.ScheduleChangedEvent;
 import rabbit.umc.com.demo.user.Domain.User;
 import rabbit.umc.com.demo.user.repository.UserRepository;
+import rabbit.umc.com.scheduling.JdbcLeaseLock;
+import rabbit.umc.com.utils.CursorUtil;
+import rabbit.umc.com.utils.CursorUtil.Cursor;
 
-import java.time.LocalDate;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import static rabbit.umc.com.config.apiPayload.BaseResponseStatus.*;
 import static rabbit.umc.com.demo.base.Status.ACTIVE;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -46,25 +53,27 @@ public class MissionServiceImpl implements MissionService{
     private final MissionScheduleRepository missionScheduleRepository;
     private final ScheduleRepository scheduleRepository;
     private final ReportRepository reportRepository;
+    private final ReportService reportService;
     private final CategoryRepository categoryRepository;
     private final MissionUserSuccessRepository missionUserSuccessRepository;
+    private final MissionProgressRecorder missionProgressRecorder;
+    private final JdbcLeaseLock leaseLock;
+    private final MissionFeedCache missionFeedCache;
+    private final ApplicationEventPublisher eventPublisher;
 
-    private static final int PAGING_SIZE = 20;
+    // 미션 목록 한 페이지 크기 (MissionFeedCache 도 같은 값을 사용)
+    static final int PAGING_SIZE = 20;
 
     @Override
     public List<MissionHomeRes> getMissionHome(int page) throws BaseException {
         LocalDateTime now =  LocalDateTime.now();
-        PageRequest pageRequest = PageRequest.of(page,PAGING_SIZE,Sort.by("startAt"));
-        List<Mission> missionList = missionRepository.findAllByStatusAndStartAtAfterAndIsOpenOrderByStartAt(ACTIVE,now,0,pageRequest);
+        PageRequest pageRequest = PageRequest.of(page,PAGING_SIZE);
+        List<MissionHomeRes> resultList = missionRepository.findHomeFeed(ACTIVE,now,0,pageRequest);
 
-        if (missionList.isEmpty()) {
+        if (resultList.isEmpty()) {
             throw new BaseException(END_PAGE);
         }
 
-        List<MissionHomeRes> resultList = missionList.stream()
-                .map(MissionHomeRes::toMissionHomeRes)
-                .collect(Collectors.toList());
-
         return resultList;
     }
 
@@ -74,23 +83,29 @@ public class MissionServiceImpl implements MissionService{
     @Override
     public List<MissionHomeRes> getMissionByMissionCategoryId(Long categoryId, int page) throws BaseException {
         LocalDateTime now =  LocalDateTime.now();
-        PageRequest pageRequest = PageRequest.of(page,PAGING_SIZE,Sort.by("startAt"));
-        List<Mission> missionList;
+        PageRequest pageRequest = PageRequest.of(page,PAGING_SIZE);
+        List<MissionHomeRes> resultList;
 
         if(categoryId == 0){
-            missionList = missionRepository.findAllByStatusAndStartAtAfterAndIsOpenOrderByStartAt(ACTIVE,now,0,pageRequest);
+            resultList = missionRepository.findHomeFeed(ACTIVE,now,0,pageRequest);
         }else{
-            missionList = missionRepository.getMissionByMissionCategoryIdOrderByStartAt(ACTIVE,now,0,categoryId,pageRequest);
+            resultList = missionRepository.findHomeFeedByCategoryId(ACTIVE,now,0,categoryId,pageRequest);
         }
 
-        if(missionList.isEmpty()){
+        if(resultList.isEmpty()){
                 throw new BaseException(END_PAGE);
-        }else{
-            List<MissionHomeRes> resultList = missionList.stream()
-                    .map(MissionHomeRes::toMissionHomeRes)
-                    .collect(Collectors.toList());
-            return resultList;
         }
+        return resultList;
+    }
+
+    /**
+     * 미션 홈/카테고리별 커서 페이징 (categoryId 가 0 이면 전체)
+     * 마지막 페이지 이후에는 빈 목록과 hasNext = false, 결과는 MissionFeedCache 에서 1분 단위로 공유
+     */
+    @Override
+    public MissionFeedRes getMissionFeed(Long categoryId, String cursor) throws BaseException {
+        Cursor decoded = (cursor == null || cursor.isBlank()) ? null : CursorUtil.decode(cursor);
+        return missionFeedCache.get(categoryId, decoded);
     }
 
     /**
@@ -153,8 +168,10 @@ public class MissionServiceImpl implements MissionService{
     @Transactional
     public void deleteMyMission(List<Long> missionIds, long userId) throws BaseException {
         List<MissionUsers> missionUsers = missionUserRepository.getMissionUsersByMissionIdAndUserId(missionIds,userId);
-        List<MissionSchedule> missionScheduleList = missionScheduleRepository.findMissionSchedulesByMissionIds(missionIds);
-        // 일정, 미션일정 테이블 값 제거
+        // 다른 참여자의 미션일정은 건드리지 않음
+        List<MissionSchedule> missionScheduleList = linkedByUser(
+                missionScheduleRepository.findMissionSchedulesByMissionIds(missionIds), userId);
+        // 일정, 미션일정 테이블 값 제거 (미션 유저 row 도 지워지므로 달성 기록은 다시 계산하지 않음)
         missionScheduleList.forEach(ms -> {
             ms.deleteMissionSchedule(ms.getMission(),ms.getSchedule());
         });
@@ -164,6 +181,7 @@ public class MissionServiceImpl implements MissionService{
 
         // 미션 유저 테이블 값 제거
         missionUsers.forEach(id -> missionUserRepository.delete(id));
+        missionRepository.addChallengerCnt(missionIds, -1);
     }
 
     @Override
@@ -197,13 +215,15 @@ public class MissionServiceImpl implements MissionService{
                     }
                 }
                 // 미션,일정 둘 다 있을 때 미션-일정, 미션 삭제
-                missionUserRepository.deleteByMissionIdAndUserId(missionId,userId); // 미션 유저 삭제
+                leaveMission(missionId, userId);
                 missionScheduleRepository.deleteByMissionIdAndScheduleIds(missionId,scheduleIds);
 //                missionRepository.deleteById(missionId);
             }else{
                 // 미션만 있고 일정 아이디들은 주어지지 않았을 때
-                missionUserRepository.deleteByMissionIdAndUserId(missionId,userId); // 미션 유저 삭제
-                List<MissionSchedule> missionSchedulesByMissionId = missionScheduleRepository.getMissionScheduleByMissionId(missionId);
+                leaveMission(missionId, userId);
+                // 내 미션일정만 제거 (미션 유저 row 가 지워졌으므로 달성 기록은 다시 계산하지 않음)
+                List<MissionSchedule> missionSchedulesByMissionId = linkedByUser(
+                        missionScheduleRepository.getMissionScheduleByMissionId(missionId), userId);
                 missionSchedulesByMissionId.forEach(ms -> ms.deleteMissionSchedule(ms.getMission(),ms.getSchedule()));
 //                missionRepository.deleteById(missionId);
             }
@@ -216,9 +236,12 @@ public class MissionServiceImpl implements MissionService{
                 }
             }
             // 해당 일정들이 있다면 미션-일정, 일정 삭제
+            List<MissionSchedule> linkedSchedules = missionScheduleRepository.findLinkedByScheduleIds(scheduleIds);
             if(!scheduleIds.isEmpty())
                 missionScheduleRepository.deleteByScheduleIds(scheduleIds);
                 scheduleRepository.deleteByScheduleIds(scheduleIds);
+            missionProgressRecorder.unlinked(linkedSchedules);
+            eventPublisher.publishEvent(new ScheduleChangedEvent(userId));
         }
     }
 
@@ -243,7 +266,9 @@ public class MissionServiceImpl implements MissionService{
                     .user(user)
                     .mission(mission)
                     .build();
-            reportRepository.save(report);
+            // 신고 횟수 15회 이상시 미션 비활성화
+            reportService.reportMission(report);
+            eventPublisher.publishEvent(new MissionFeedChangedEvent());
         }
     }
 
@@ -269,6 +294,7 @@ public class MissionServiceImpl implements MissionService{
 
         MissionUsers missionUsers = new MissionUsers(user,mission, ACTIVE);
         missionUserRepository.save(missionUsers);
+        missionRepository.addChallengerCnt(List.of(missionId), 1);
     }
 
     @Override
@@ -288,31 +314,18 @@ public class MissionServiceImpl implements MissionService{
         return GetMissionDetailDto.toGetMissionDetaliDto(mission,isAlreadyIn);
     }
 
-    public static List<LocalDate> getDateBetweenTwoDates(LocalDateTime startAt, LocalDateTime endAt) {
-        LocalDate startDate = startAt.toLocalDate();
-        LocalDate endDate = endAt.toLocalDate();
-
-        int numOfDaysBetween = (int) ChronoUnit.DAYS.between(startDate,endDate);
-
-        return IntStream.iterate(0, i -> i <= numOfDaysBetween, i -> i + 1)
-                .mapToObj(i -> startDate.plusDays(i))
-                .collect(Collectors.toList());
-    }
-
     @Override
     @Transactional
     public MissionHistoryRes getSuccessMissions(Long userId) {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime oneDayLaterDateTime = now.minusDays(1);
-        CheckMissionSuccessOrFail successMissionIds = getMissionIdsByStatus(userId, oneDayLaterDateTime, true);
+        LocalDateTime oneDayLaterDateTime = LocalDateTime.now().minusDays(1);
+        List<MissionUsers> endedMissions = missionUserRepository.findEndedWithMission(userId, oneDayLaterDateTime);
 
-        List<Mission> successMissions = missionRepository.getMissionsByIdIsIn(successMissionIds.getIds());
-        List<MissionHomeRes> resultList = successMissions.stream()
-                .map(MissionHomeRes::toMissionHomeRes)
+        List<MissionHomeRes> resultList = endedMissions.stream()
+                .filter(MissionUsers::isSucceeded)
+                .map(mu -> MissionHomeRes.toMissionHomeRes(mu.getMission()))
                 .collect(Collectors.toList());
 
-
-        return MissionHistoryRes.toSuccessMissionHistoryRes(successMissionIds.getTotalCnt(), resultList);
+        return MissionHistoryRes.toSuccessMissionHistoryRes(endedMissions.size(), resultList);
     }
 
     /**
@@ -322,56 +335,15 @@ public class MissionServiceImpl implements MissionService{
      */
     @Override
     public MissionHistoryRes getFailureMissions(Long userId) {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime oneDayLaterDateTime = now.minusDays(1);
-        CheckMissionSuccessOrFail failureMissionIds = getMissionIdsByStatus(userId, oneDayLaterDateTime, false);
+        LocalDateTime oneDayLaterDateTime = LocalDateTime.now().minusDays(1);
+        List<MissionUsers> endedMissions = missionUserRepository.findEndedWithMission(userId, oneDayLaterDateTime);
 
-        List<Mission> failureMissions = missionRepository.getMissionsByIdIsIn(failureMissionIds.getIds());
-        List<MissionHomeRes> resultList = failureMissions.stream()
-                .map(MissionHomeRes::toMissionHomeRes)
+        List<MissionHomeRes> resultList = endedMissions.stream()
+                .filter(mu -> !mu.isSucceeded())
+                .map(mu -> MissionHomeRes.toMissionHomeRes(mu.getMission()))
                 .collect(Collectors.toList());
 
-        return MissionHistoryRes.toFailMissionHistoryRes(failureMissionIds.getTotalCnt(), resultList);
-    }
-
-    /**
-     * 미션 성공,실패 판단하는 메소드
-     */
-    private CheckMissionSuccessOrFail getMissionIdsByStatus(Long userId, LocalDateTime now, boolean isSuccess) {
-        int totalCnt = 0;
-        List<MissionUsers> missionUsersList = missionUserRepository.getMissionUsersByUserIdAndMissionEndAtIsBefore(userId, now);
-        List<Long> missionIds = new ArrayList<>();
-
-        for (MissionUsers missionUser : missionUsersList) {
-            List<MissionSchedule> missionSchedules = missionScheduleRepository.getMissionScheduleByMissionId(missionUser.getMission().getId());
-            Mission mission = missionRepository.getMissionByIdAndEndAtIsBeforeOrderByEndAt(missionUser.getMission().getId(), now);
-
-            if (mission != null) {
-                LocalDate targetDate = mission.getEndAt().toLocalDate();
-                LocalDate currentDate = mission.getStartAt().toLocalDate();
-                int targetCnt = (int) ChronoUnit.DAYS.between(currentDate, targetDate);
-                totalCnt++;
-                List<LocalDate> dateList = getDateBetweenTwoDates(mission.getStartAt(), mission.getEndAt());
-
-                int successCnt = 0;
-                for (MissionSchedule missionSchedule : missionSchedules) {
-                    Schedule schedule = scheduleRepository.findScheduleById(missionSchedule.getSchedule().getId());
-                    LocalDate when = LocalDate.from(schedule.getEndAt());
-
-                    if (schedule.getUser().getId() == userId && dateList.contains(when)) {
-                        successCnt++;
-                    }
-                }
-
-                if (isSuccess && successCnt == targetCnt + 1) {
-                    missionIds.add(missionUser.getMission().getId());
-                } else if (!isSuccess && successCnt < targetCnt + 1) {
-                    missionIds.add(missionUser.getMission().getId());
-                }
-            }
-        }
-
-        return new CheckMissionSuccessOrFail(missionIds,totalCnt);
+        return MissionHistoryRes.toFailMissionHistoryRes(endedMissions.size(), resultList);
     }
 
     /**
@@ -404,9 +376,42 @@ public class MissionServiceImpl implements MissionService{
         Category category = categoryRepository.getReferenceById(postMissionReq.getCategoryId());
         Mission mission = new Mission();
         mission.toMission(postMissionReq,category);
+        // 만든 사람이 첫 참여자
+        mission.setChallengerCnt(1);
         missionRepository.save(mission);
 
         MissionUsers missionUsers = new MissionUsers(user,mission, ACTIVE);
         missionUserRepository.save(missionUsers);
+        eventPublisher.publishEvent(new MissionFeedChangedEvent());
+    }
+
+    // 실제로 참여 기록이 지워졌을 때만 참여자 수 감소
+    private List<MissionSchedule> linkedByUser(List<MissionSchedule> missionSchedules, long userId) {
+        return missionSchedules.stream()
+                .filter(ms -> ms.getSchedule() != null && ms.getSchedule().getUser().getId() == userId)
+                .collect(Collectors.toList());
+    }
+
+    private void leaveMission(Long missionId, long userId) {
+        if (missionUserRepository.deleteByMissionIdAndUserId(missionId, userId) > 0) { // 미션 유저 삭제
+            missionRepository.addChallengerCnt(List.of(missionId), -1);
+        }
+    }
+
+    /**
+     * 스케줄러
+     * 참여자/성공자 카운터가 실제 row 수와 어긋난 미션 보정 (카운터 컬럼 추가 직후를 위해 서버 시작시에도 실행)
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 40 4 * * ?") // 매일 새벽 4시 40분
+    public void reconcileMissionCounts() {
+        // 여러 서버 중 한 곳에서만 실행
+        leaseLock.runExclusively("mission-count-reconcile", Duration.ofMinutes(30), Duration.ofMinutes(1), lease -> {
+            int fixed = missionRepository.reconcileCounts();
+            if (fixed > 0) {
+                log.info("참여자/성공자 카운터 보정된 미션 수: {}", fixed);
+            }
+        });
     }
 }
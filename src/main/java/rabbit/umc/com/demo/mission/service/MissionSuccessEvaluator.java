@@ -0,0 +1,207 @@
+package rabbit.umc.com.demo.mission.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import rabbit.umc.com.demo.mission.Mission;
+import rabbit.umc.com.demo.mission.MissionUsers;
+import rabbit.umc.com.demo.mission.repository.MissionRepository;
+import rabbit.umc.com.demo.mission.repository.MissionRepository.EndedMission;
+import rabbit.umc.com.demo.mission.repository.MissionUserSuccessRepository;
+import rabbit.umc.com.demo.mission.repository.MissionUserSuccessRepository.SuccessKey;
+import rabbit.umc.com.demo.mission.repository.MissionUsersRepository;
+import rabbit.umc.com.demo.mission.repository.MissionUsersRepository.Participation;
+import rabbit.umc.com.scheduling.JdbcLeaseLock;
+import rabbit.umc.com.scheduling.Lease;
+
+/**
+ * 종료된 미션의 성공 여부를 mission_user_success 에 확정
+ * 미션을 id 순 chunk 로 읽고, chunk 의 참여 기록을 유저 단위로 나눠 fork-join 으로 평가/insert 한다.
+ * 이미 기록된 성공은 건너뛰고 더 이상 성공이 아닌 기록은 지우므로, 중간에 멈추거나
+ * 평가 후 일정이 바뀌어 다시 평가 대상이 된 미션(MissionProgressRecorder)도 같은 방식으로 다시 처리하면 된다.
+ * 평가 완료 표시는 chunk 를 읽을 때의 progress_version 이 그대로인 미션에만 하므로,
+ * 참여 기록을 읽은 뒤 커밋된 변경은 덮어써지지 않고 다음 작업에서 다시 평가된다.
+ */
+@Slf4j
+@Component
+public class MissionSuccessEvaluator {
+    private static final String LOCK_NAME = "mission-success-evaluation";
+    private static final Duration LEASE_TIME = Duration.ofMinutes(30);
+    private static final String INSERT_SUCCESS_SQL =
+            "INSERT INTO mission_user_success (mission_id, user_id, status, created_at, updated_at) " +
+            "VALUES (?, ?, 'ACTIVE', NOW(), NOW())";
+    private static final String DELETE_SUCCESS_SQL =
+            "DELETE FROM mission_user_success WHERE mission_id = ? AND user_id = ?";
+    // 읽은 뒤 참여 기록이 바뀐 미션(버전 증가)은 평가 완료로 표시하지 않고 다음 작업에서 다시 평가
+    private static final String MARK_EVALUATED_SQL =
+            "UPDATE missions SET success_evaluated = 1 WHERE missions_id = ? AND progress_version = ?";
+
+    private final MissionRepository missionRepository;
+    private final MissionUsersRepository missionUsersRepository;
+    private final MissionUserSuccessRepository missionUserSuccessRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcLeaseLock leaseLock;
+    private final int chunkSize;
+    private final int usersPerTask;
+    private final int threads;
+
+    public MissionSuccessEvaluator(MissionRepository missionRepository,
+                                   MissionUsersRepository missionUsersRepository,
+                                   MissionUserSuccessRepository missionUserSuccessRepository,
+                                   JdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate,
+                                   JdbcLeaseLock leaseLock,
+                                   @Value("${mission.success.chunk-size:200}") int chunkSize,
+                                   @Value("${mission.success.users-per-task:500}") int usersPerTask,
+                                   @Value("${mission.success.threads:4}") int threads) {
+        this.missionRepository = missionRepository;
+        this.missionUsersRepository = missionUsersRepository;
+        this.missionUserSuccessRepository = missionUserSuccessRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.leaseLock = leaseLock;
+        this.chunkSize = chunkSize;
+        this.usersPerTask = usersPerTask;
+        this.threads = threads;
+    }
+
+    // 종료일 하루가 다 지난 뒤 평가 (종료일 일정까지 반영)
+    @Scheduled(cron = "0 10 0 * * ?")
+    public void evaluateEndedMissions() {
+        leaseLock.runExclusively(LOCK_NAME, LEASE_TIME, Duration.ofMinutes(1), this::evaluate);
+    }
+
+    private void evaluate(Lease lease) {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime endedBefore = LocalDateTime.now().minusDays(1);
+        int missions = 0;
+        int successes = 0;
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            Long afterId = 0L;
+            List<EndedMission> chunk;
+            do {
+                chunk = missionRepository.findUnevaluatedEndedMissions(endedBefore, afterId, PageRequest.of(0, chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                successes += evaluateChunk(chunk, pool);
+                missions += chunk.size();
+                afterId = chunk.get(chunk.size() - 1).getMissionId();
+                // chunk 마다 연장, 이미 다른 서버가 가져갔으면 중단
+                if (!leaseLock.renew(lease, LEASE_TIME)) {
+                    log.warn("mission success evaluation lease lost after mission {}", afterId);
+                    break;
+                }
+            } while (chunk.size() == chunkSize);
+        } finally {
+            pool.shutdown();
+        }
+
+        log.info("mission success evaluation finished in {} ms: {} missions, {} successes",
+                System.currentTimeMillis() - startedAt, missions, successes);
+    }
+
+    private int evaluateChunk(List<EndedMission> chunk, ForkJoinPool pool) {
+        List<Long> missionIds = chunk.stream().map(EndedMission::getMissionId).collect(Collectors.toList());
+        Map<Long, Integer> dayCounts = chunk.stream()
+                .collect(Collectors.toMap(EndedMission::getMissionId, m -> Mission.dayCount(m.getStartAt(), m.getEndAt())));
+
+        List<Participation> participations = missionUsersRepository.findParticipations(missionIds);
+        // 처음 평가하는 미션이면 비어 있음
+        Map<Long, Set<Long>> recorded = missionUserSuccessRepository.findSuccessKeys(missionIds).stream()
+                .collect(Collectors.groupingBy(SuccessKey::getMissionId, Collectors.mapping(SuccessKey::getUserId, Collectors.toSet())));
+
+        // 한 유저의 참여 기록은 같은 작업에서 처리
+        List<List<Participation>> byUser = new ArrayList<>(participations.stream()
+                .collect(Collectors.groupingBy(Participation::getUserId, LinkedHashMap::new, Collectors.toList()))
+                .values());
+
+        int successes = pool.invoke(new EvaluateTask(byUser, 0, byUser.size(), dayCounts, recorded));
+
+        // 기록은 있지만 더 이상 성공이 아닌 (미션, 유저)
+        Map<Long, Set<Long>> succeeded = participations.stream()
+                .filter(p -> isSucceeded(p, dayCounts))
+                .collect(Collectors.groupingBy(Participation::getMissionId, Collectors.mapping(Participation::getUserId, Collectors.toSet())));
+        List<Object[]> revoked = new ArrayList<>();
+        recorded.forEach((missionId, userIds) -> userIds.stream()
+                .filter(userId -> !succeeded.getOrDefault(missionId, Set.of()).contains(userId))
+                .forEach(userId -> revoked.add(new Object[]{missionId, userId})));
+
+        // 모든 유저의 insert 가 끝난 뒤에만 성공자 수를 반영하고 평가 완료로 표시
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!revoked.isEmpty()) {
+                jdbcTemplate.batchUpdate(DELETE_SUCCESS_SQL, revoked);
+            }
+            missionRepository.recountSuccessCnt(missionIds);
+            jdbcTemplate.batchUpdate(MARK_EVALUATED_SQL, chunk.stream()
+                    .map(m -> new Object[]{m.getMissionId(), m.getProgressVersion()})
+                    .collect(Collectors.toList()));
+        });
+        return successes;
+    }
+
+    // 이미 기록된 성공은 다시 넣지 않음
+    private int insertSuccesses(List<List<Participation>> users, Map<Long, Integer> dayCounts, Map<Long, Set<Long>> recorded) {
+        List<Object[]> args = users.stream()
+                .flatMap(List::stream)
+                .filter(p -> isSucceeded(p, dayCounts))
+                .filter(p -> !recorded.getOrDefault(p.getMissionId(), Set.of()).contains(p.getUserId()))
+                .map(p -> new Object[]{p.getMissionId(), p.getUserId()})
+                .collect(Collectors.toList());
+        if (!args.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SUCCESS_SQL, args));
+        }
+        return args.size();
+    }
+
+    private static boolean isSucceeded(Participation participation, Map<Long, Integer> dayCounts) {
+        return MissionUsers.countDays(participation.getCompletedDays()) == dayCounts.get(participation.getMissionId());
+    }
+
+    // 유저 목록을 usersPerTask 이하가 될 때까지 반으로 나눠 병렬 처리
+    private class EvaluateTask extends RecursiveTask<Integer> {
+        private final List<List<Participation>> users;
+        private final int from;
+        private final int to;
+        private final Map<Long, Integer> dayCounts;
+        private final Map<Long, Set<Long>> recorded;
+
+        private EvaluateTask(List<List<Participation>> users, int from, int to,
+                             Map<Long, Integer> dayCounts, Map<Long, Set<Long>> recorded) {
+            this.users = users;
+            this.from = from;
+            this.to = to;
+            this.dayCounts = dayCounts;
+            this.recorded = recorded;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= usersPerTask) {
+                return insertSuccesses(users.subList(from, to), dayCounts, recorded);
+            }
+            int mid = (from + to) >>> 1;
+            EvaluateTask left = new EvaluateTask(users, from, mid, dayCounts, recorded);
+            left.fork();
+            int right = new EvaluateTask(users, mid, to, dayCounts, recorded).compute();
+            return left.join() + right;
+        }
+    }
+}
@@ -2,6 +2,9 @@ package rabbit.umc.com.demo.report;
 
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import rabbit.umc.com.demo.community.domain.Article;
 import rabbit.umc.com.demo.user.Domain.User;
@@ -26,5 +29,57 @@ public interface ReportRepository extends JpaRepository<Report ,Long> {
 
     Report findReportByUserIdAndMissionId(long userId, long missionId);
 
+    boolean existsByUserIdAndCommentId(Long userId, Long commentId);
 
+    // 신고 row 수와 어긋난 report_count 보정 (컬럼 추가 전 신고 포함)
+    @Modifying
+    @Query(value = "UPDATE article a " +
+            "LEFT JOIN (SELECT article_id, COUNT(*) AS cnt FROM report WHERE article_id IS NOT NULL GROUP BY article_id) r ON r.article_id = a.article_id " +
+            "SET a.report_count = COALESCE(r.cnt, 0) WHERE a.report_count <> COALESCE(r.cnt, 0)", nativeQuery = true)
+    int reconcileArticleReportCounts();
+
+    @Modifying
+    @Query(value = "UPDATE comments c " +
+            "LEFT JOIN (SELECT comment_id, COUNT(*) AS cnt FROM report WHERE comment_id IS NOT NULL GROUP BY comment_id) r ON r.comment_id = c.comments_id " +
+            "SET c.report_count = COALESCE(r.cnt, 0) WHERE c.report_count <> COALESCE(r.cnt, 0)", nativeQuery = true)
+    int reconcileCommentReportCounts();
+
+    @Modifying
+    @Query(value = "UPDATE main_mission_proof p " +
+            "LEFT JOIN (SELECT main_mission_proof_id, COUNT(*) AS cnt FROM report WHERE main_mission_proof_id IS NOT NULL GROUP BY main_mission_proof_id) r ON r.main_mission_proof_id = p.main_mission_proof_id " +
+            "SET p.report_count = COALESCE(r.cnt, 0) WHERE p.report_count <> COALESCE(r.cnt, 0)", nativeQuery = true)
+    int reconcileMissionProofReportCounts();
+
+    @Modifying
+    @Query(value = "UPDATE missions m " +
+            "LEFT JOIN (SELECT mission_id, COUNT(*) AS cnt FROM report WHERE mission_id IS NOT NULL GROUP BY mission_id) r ON r.mission_id = m.missions_id " +
+            "SET m.report_count = COALESCE(r.cnt, 0) WHERE m.report_count <> COALESCE(r.cnt, 0)", nativeQuery = true)
+    int reconcileMissionReportCounts();
+
+    // 카운터 보정 후 기준 이상인데 아직 활성인 대상 비활성화
+    @Modifying
+    @Query(value = "UPDATE article SET status = 'INACTIVE', updated_at = NOW() " +
+            "WHERE status = 'ACTIVE' AND report_count >= :limit", nativeQuery = true)
+    int inactivateReportedArticles(@Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE comments SET status = 'INACTIVE', updated_at = NOW() " +
+            "WHERE status = 'ACTIVE' AND report_count >= :limit", nativeQuery = true)
+    int inactivateReportedComments(@Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE main_mission_proof SET status = 'INACTIVE', updated_at = NOW() " +
+            "WHERE status = 'ACTIVE' AND report_count >= :limit", nativeQuery = true)
+    int inactivateReportedMissionProofs(@Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE missions SET status = 'INACTIVE', updated_at = NOW() " +
+            "WHERE status = 'ACTIVE' AND report_count >= :limit", nativeQuery = true)
+    int inactivateReportedMissions(@Param("limit") int limit);
+
+    // 게시물 + 게시물 댓글에 대한 신고 삭제
+    @Modifying
+    @Query("DELETE FROM Report r WHERE r.article.id = :articleId " +
+            "OR r.comment.id IN (SELECT c.id FROM Comment c WHERE c.article.id = :articleId)")
+    int bulkDeleteByArticleId(@Param("articleId") Long articleId);
 }
@@ -1,34 +1,115 @@
 package rabbit.umc.com.demo.report;
 
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import rabbit.umc.com.demo.mainmission.domain.mapping.MainMissionProof;
-import rabbit.umc.com.demo.user.Domain.User;
+import rabbit.umc.com.demo.community.Comments.CommentRepository;
+import rabbit.umc.com.demo.community.article.ArticleRepository;
+import rabbit.umc.com.demo.community.article.service.CommunityHomeChangedEvent;
+import rabbit.umc.com.demo.mainmission.repository.MainMissionProofRepository;
+import rabbit.umc.com.demo.mainmission.repository.MainMissionProofRepository.ProofDay;
+import rabbit.umc.com.demo.mainmission.service.MissionProofChangedEvent;
+import rabbit.umc.com.demo.mission.repository.MissionRepository;
+import rabbit.umc.com.demo.mission.service.MissionFeedChangedEvent;
+import rabbit.umc.com.scheduling.JdbcLeaseLock;
 
+@Slf4j
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class ReportService {
-    private static final int REPORT_REMIT = 15;
+    public static final int REPORT_LIMIT = 15;
 
     private final ReportRepository reportRepository;
+    private final ArticleRepository articleRepository;
+    private final CommentRepository commentRepository;
+    private final MainMissionProofRepository mainMissionProofRepository;
+    private final MissionRepository missionRepository;
+    private final JdbcLeaseLock leaseLock;
+    private final ApplicationEventPublisher eventPublisher;
 
     public boolean isReport(Long userId, Long mainMissionProofId){
         Optional<Report> findReport = reportRepository.findReportByUserIdAndAndMainMissionProofId(userId, mainMissionProofId);
         return findReport.isPresent();
     }
+
+    /**
+     * 신고 저장 + 게시물 신고 수 증가 (15회 이상이면 비활성화)
+     * 비활성화 여부는 로딩된 엔티티가 아니라 DB 의 UPDATE 결과로 판단한다.
+     * @return 이번 신고로 게시물이 비활성화됐는지 여부 (동시에 신고가 들어와도 한 건만 true)
+     */
+    @Transactional
+    public boolean reportArticle(Report report){
+        reportRepository.save(report);
+        Long articleId = report.getArticle().getId();
+        articleRepository.increaseReportCount(articleId);
+        return articleRepository.inactivateIfReported(articleId, REPORT_LIMIT) > 0;
+    }
+
+    @Transactional
+    public void reportComment(Report report){
+        reportRepository.save(report);
+        commentRepository.increaseReportCount(report.getComment().getId(), REPORT_LIMIT);
+    }
+
+    /**
+     * 신고 저장 + 인증 사진 신고 수 증가 (15회 이상이면 비활성화)
+     * 비활성화 여부는 로딩된 엔티티가 아니라 DB 의 UPDATE 결과로 판단한다.
+     * @return 이번 신고로 인증 사진이 비활성화됐는지 여부 (동시에 신고가 들어와도 한 건만 true)
+     */
     @Transactional
-    public void reportMissionProof(Report report){
+    public boolean reportMissionProof(Report report){
         reportRepository.save(report);
+        Long mainMissionProofId = report.getMainMissionProof().getId();
+        mainMissionProofRepository.increaseReportCount(mainMissionProofId);
+        return mainMissionProofRepository.inactivateIfReported(mainMissionProofId, REPORT_LIMIT) > 0;
     }
 
     @Transactional
-    public boolean checkInactivation(Long mainMissionProofId, MainMissionProof mainMissionProof){
-        List<Report> countReport = reportRepository.findAllByMainMissionProofId(mainMissionProofId);
-        return countReport.size() >= REPORT_REMIT;
+    public void reportMission(Report report){
+        reportRepository.save(report);
+        missionRepository.increaseReportCount(report.getMission().getId(), REPORT_LIMIT);
+    }
+
+    /**
+     * 매일 새벽 신고 수 카운터 보정 + 보정된 신고 수 기준으로 비활성화
+     */
+    @Transactional
+    @Scheduled(cron = "0 40 4 * * ?")
+    public void reconcileReportCounts() {
+        leaseLock.runExclusively("report-count-reconcile", Duration.ofMinutes(30), Duration.ofMinutes(1), lease -> {
+            int fixed = reportRepository.reconcileArticleReportCounts()
+                    + reportRepository.reconcileCommentReportCounts()
+                    + reportRepository.reconcileMissionProofReportCounts()
+                    + reportRepository.reconcileMissionReportCounts();
+            if (fixed > 0) {
+                log.info("신고 수 카운터 보정된 row 수: {}", fixed);
+            }
+
+            int articles = reportRepository.inactivateReportedArticles(REPORT_LIMIT);
+            int comments = reportRepository.inactivateReportedComments(REPORT_LIMIT);
+            List<ProofDay> proofDays = mainMissionProofRepository.findReportedProofDays(REPORT_LIMIT);
+            int proofs = reportRepository.inactivateReportedMissionProofs(REPORT_LIMIT);
+            int missions = reportRepository.inactivateReportedMissions(REPORT_LIMIT);
+            if (articles > 0) {
+                eventPublisher.publishEvent(new CommunityHomeChangedEvent());
+            }
+            proofDays.forEach(proofDay ->
+                    eventPublisher.publishEvent(new MissionProofChangedEvent(proofDay.getMainMissionId(), proofDay.getMissionDay())));
+            if (missions > 0) {
+                eventPublisher.publishEvent(new MissionFeedChangedEvent());
+            }
+            if (articles + comments + proofs + missions > 0) {
+                log.info("신고 수 기준 비활성화. articles: {}, comments: {}, proofs: {}, missions: {}",
+                        articles, comments, proofs, missions);
+            }
+        });
     }
 }
@@ -49,12 +49,16 @@ public class ScheduleController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "JWT4001", description = "JWT 토큰을 주세요!",content = @Content(schema = @Schema(implementation = ApiResponse.class))),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "JWT4002", description = "JWT 토큰 만료",content = @Content(schema = @Schema(implementation = ApiResponse.class))),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "JWT4003", description = "권한 없는 접근",content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON406", description = "잘못된 커서 값",content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+    })
+    @Parameters({
+            @Parameter(name = "cursor", description = "이전 페이지 응답의 nextCursor 입니다. 첫 페이지는 생략합니다.")
     })
     @GetMapping()
-    public BaseResponse<ScheduleHomeRes> getHome(){
+    public BaseResponse<ScheduleHomeRes> getHome(@RequestParam(required = false, name = "cursor") String cursor){
         try {
             long userId = (long) jwtService.getUserIdx();
-            ScheduleHomeRes scheduleHomeRes = scheduleService.getHome(userId);
+            ScheduleHomeRes scheduleHomeRes = scheduleService.getHome(userId, cursor);
             return new BaseResponse<>(scheduleHomeRes);
         } catch (BaseException e) {
             return new BaseResponse<>(e.getStatus());
@@ -31,27 +31,30 @@ public class MissionListDto {
     @Schema(example = "D+n")
     private String dDAy;
 
+    // 일정 홈 진행 중 미션 쿼리의 생성자 projection
+    public MissionListDto(Long missionId, String missionTitle, int challengerCnts, LocalDateTime startAt) {
+        this(missionId, missionTitle, challengerCnts, toDDay(startAt));
+    }
+
     public static MissionListDto toMissionListDto(Mission mission){
+        return new MissionListDto(
+            mission.getId(),
+            mission.getTitle(),
+            mission.getChallengerCnt(),
+            mission.getStartAt()
+        );
+    }
 
-//        LocalDate targetDateTime = mission.getEndAt().toLocalDate();
-        LocalDate targetDateTime = mission.getStartAt().toLocalDate();
+    private static String toDDay(LocalDateTime startAt){
+        LocalDate targetDateTime = startAt.toLocalDate();
         LocalDate currentDateTime = LocalDateTime.now().toLocalDate();
         long daysUntilTarget = ChronoUnit.DAYS.between(currentDateTime, targetDateTime); // 현재 날짜와 대상 날짜 사이의 일 수 계산
-        String dDay;
         if (daysUntilTarget > 0) {
-            dDay = "D-" + daysUntilTarget;
+            return "D-" + daysUntilTarget;
         } else if (daysUntilTarget == 0) {
-            dDay = "D-day";
-        } else {
-            dDay = "D+" + Math.abs(daysUntilTarget);
+            return "D-day";
         }
-
-        return new MissionListDto(
-            mission.getId(),
-            mission.getTitle(),
-            mission.getMissionUsers().size(),
-            dDay
-        );
+        return "D+" + Math.abs(daysUntilTarget);
     }
 
 }
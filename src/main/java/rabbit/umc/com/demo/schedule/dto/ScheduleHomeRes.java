@@ -1,5 +1,6 @@
 package rabbit.umc.com.demo.schedule.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
 import java.util.List;
@@ -7,7 +8,13 @@ import java.util.List;
 @Getter
 @Setter
 public class ScheduleHomeRes {
+    // 첫 페이지에만 포함
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<MissionListDto> missionList;
     private List<ScheduleListDto> scheduleList;
+    private boolean hasNext;
+    // 다음 페이지 커서 (마지막 페이지면 null)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
 
 }
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import rabbit.umc.com.demo.schedule.domain.MissionSchedule;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface MissionScheduleRepository extends JpaRepository<MissionSchedule,Long> {
@@ -25,6 +26,21 @@ public interface MissionScheduleRepository extends JpaRepository<MissionSchedule
 
 
     List<MissionSchedule> getMissionScheduleByMissionId(Long id);
+
+    // 유저가 미션에 연결한 일정 날짜
+    @Query("select s.endAt from MissionSchedule ms join ms.schedule s where ms.mission.id = :missionId and s.user.id = :userId")
+    List<LocalDateTime> findLinkedScheduleDates(@Param("missionId") Long missionId, @Param("userId") Long userId);
+
+    // 해당 날짜에 미션에 연결된 유저의 다른 일정 수
+    @Query("select count(ms) from MissionSchedule ms join ms.schedule s " +
+            "where ms.mission.id = :missionId and s.user.id = :userId and s.id <> :scheduleId " +
+            "and s.endAt >= :from and s.endAt < :to")
+    long countOtherLinkedOnDay(@Param("missionId") Long missionId, @Param("userId") Long userId,
+                               @Param("scheduleId") Long scheduleId,
+                               @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("select ms from MissionSchedule ms join fetch ms.schedule where ms.schedule.id in :scheduleIds and ms.mission is not null")
+    List<MissionSchedule> findLinkedByScheduleIds(@Param("scheduleIds") List<Long> scheduleIds);
     @Modifying
     @Query("delete from MissionSchedule ms where ms.mission.id = :missionId and ms.schedule.id in :scheduleIds")
     void deleteByMissionIdAndScheduleIds(Long missionId, List<Long> scheduleIds);
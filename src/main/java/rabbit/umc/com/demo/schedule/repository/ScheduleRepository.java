@@ -1,5 +1,6 @@
 package rabbit.umc.com.demo.schedule.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -11,7 +12,6 @@ import rabbit.umc.com.demo.schedule.domain.Schedule;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Date;
 import java.util.List;
 
 @Repository
@@ -19,7 +19,11 @@ import java.util.List;
 public interface ScheduleRepository extends JpaRepository<Schedule,Long> {
     @Query(value = "select s from Schedule s join MissionSchedule ms on ms.schedule.id = s.id where s.status = 'ACTIVE' and s.user.id = :userId order by s.endAt asc")
     List<Schedule> getHome(@Param(value = "userId") long userId);
-    List<Schedule> getSchedulesByUserIdOrderByEndAt(long userId);
+    // 일정 홈, (endAt, id) 커서 이후의 일정
+    @Query("select s from Schedule s where s.user.id = :userId " +
+            "and (s.endAt > :endAt or (s.endAt = :endAt and s.id > :scheduleId)) order by s.endAt asc, s.id asc")
+    List<Schedule> findUpcomingSchedules(@Param("userId") Long userId, @Param("endAt") LocalDateTime endAt,
+                                         @Param("scheduleId") Long scheduleId, Pageable pageable);
 
     @Query(value = "SELECT s FROM Schedule s JOIN MissionSchedule ms ON ms.schedule.id = s.id WHERE DATE(s.startAt) = DATE(:when) and s.user.id = :userId order by s.endAt asc")
     List<Schedule> getScheduleByWhenAndUserId(@Param(value = "when") Timestamp when, @Param(value = "userId") long userId);
@@ -34,11 +38,16 @@ public interface ScheduleRepository extends JpaRepository<Schedule,Long> {
 
     Schedule findScheduleByIdAndUserId(Long scheduleId, Long userId);
 
-//    @Query("select s from Schedule s where month(s.endAt) = :month and s.user.id = :userId order by s.endAt asc")
-    @Query("select s from Schedule s where s.user.id= :userId and year(s.endAt) = :year and month(s.endAt) = :month order by  s.endAt asc")
-    List<Schedule> findSchedulesByMonthOrderByEndAt(@Param(value = "month") int month, @Param(value = "userId") Long userId, @Param(value = "year") int year);
-    @Query("select count(*) from Schedule s where DATE(s.endAt)= :endDate and s.user.id = :userId ")
-    Integer countByEndAtAndUserId(@Param("endDate") Date endDate, @Param("userId") Long userId);
+    // 월 별 일정 개수, [from, to) 범위로 (user_id, end_at) 인덱스를 탄다
+    @Query("select day(s.endAt) as dayOfMonth, count(s) as cnt from Schedule s " +
+            "where s.user.id = :userId and s.endAt >= :from and s.endAt < :to group by day(s.endAt)")
+    List<DayCount> countByDayOfMonth(@Param("userId") Long userId, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    interface DayCount {
+        Integer getDayOfMonth();
+        Long getCnt();
+    }
+
     @Modifying
     @Query("delete from Schedule s where s.id in :scheduleIds")
     void deleteByScheduleIds(List<Long> scheduleIds);
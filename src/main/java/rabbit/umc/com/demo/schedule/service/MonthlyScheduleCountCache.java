@@ -0,0 +1,96 @@
+package rabbit.umc.com.demo.schedule.service;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import rabbit.umc.com.demo.schedule.repository.ScheduleRepository;
+import rabbit.umc.com.demo.schedule.repository.ScheduleRepository.DayCount;
+
+/**
+ * (유저, 월) 별 날짜 -> 일정 개수 캐시
+ * 달력을 넘길 때마다 조회하지 않도록 하고, 일정이 바뀌면 커밋 후 그 유저의 월을 모두 비운다.
+ * 다른 서버에서 바뀐 일정은 ttl 이 지나면 반영된다.
+ */
+@Component
+public class MonthlyScheduleCountCache {
+    private final ScheduleRepository scheduleRepository;
+    private final long ttlMillis;
+    private final Map<Key, Entry> entries;
+
+    // 조회 중 무효화가 일어났으면 조회 결과를 캐시하지 않기 위한 용도
+    private final AtomicLong version = new AtomicLong();
+
+    public MonthlyScheduleCountCache(ScheduleRepository scheduleRepository,
+                                     @Value("${schedule.month-cache.ttl-ms:600000}") long ttlMillis,
+                                     @Value("${schedule.month-cache.max-entries:5000}") int maxEntries) {
+        this.scheduleRepository = scheduleRepository;
+        this.ttlMillis = ttlMillis;
+        // 오래 안 본 월부터 제거
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    // 일정이 없는 날은 포함하지 않음
+    public Map<Integer, Integer> get(Long userId, YearMonth yearMonth) {
+        Key key = new Key(userId, yearMonth);
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && System.currentTimeMillis() - entry.loadedAt < ttlMillis) {
+                return entry.countsOfDay;
+            }
+        }
+
+        long startVersion = version.get();
+        Map<Integer, Integer> countsOfDay = load(userId, yearMonth);
+        synchronized (entries) {
+            if (version.get() == startVersion) {
+                entries.put(key, new Entry(countsOfDay));
+            }
+        }
+        return countsOfDay;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void invalidate(ScheduleChangedEvent event) {
+        version.incrementAndGet();
+        synchronized (entries) {
+            entries.keySet().removeIf(key -> key.userId.equals(event.getUserId()));
+        }
+    }
+
+    private Map<Integer, Integer> load(Long userId, YearMonth yearMonth) {
+        Map<Integer, Integer> countsOfDay = new HashMap<>();
+        for (DayCount dayCount : scheduleRepository.countByDayOfMonth(userId,
+                yearMonth.atDay(1).atStartOfDay(), yearMonth.plusMonths(1).atDay(1).atStartOfDay())) {
+            countsOfDay.put(dayCount.getDayOfMonth(), dayCount.getCnt().intValue());
+        }
+        return Map.copyOf(countsOfDay);
+    }
+
+    private static class Entry {
+        private final Map<Integer, Integer> countsOfDay;
+        private final long loadedAt = System.currentTimeMillis();
+
+        private Entry(Map<Integer, Integer> countsOfDay) {
+            this.countsOfDay = countsOfDay;
+        }
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class Key {
+        private final Long userId;
+        private final YearMonth yearMonth;
+    }
+}
@@ -0,0 +1,13 @@
+package rabbit.umc.com.demo.schedule.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 유저의 일정이 등록/수정/삭제됐을 때 발행 (월 별 일정 개수 캐시 무효화)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ScheduleChangedEvent {
+    private final Long userId;
+}
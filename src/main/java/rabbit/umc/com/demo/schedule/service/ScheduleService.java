@@ -7,7 +7,7 @@ import java.time.YearMonth;
 import java.util.List;
 
 public interface ScheduleService {
-    ScheduleHomeRes getHome(Long userId);
+    ScheduleHomeRes getHome(Long userId, String cursor) throws BaseException;
 
     ScheduleDetailRes getScheduleDetail(Long scheduleId, Long userId) throws BaseException;
     Long postSchedule(PostScheduleReq postScheduleReq,Long userId) throws BaseException;
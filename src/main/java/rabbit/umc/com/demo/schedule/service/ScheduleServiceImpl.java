@@ -1,14 +1,16 @@
 package rabbit.umc.com.demo.schedule.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import rabbit.umc.com.config.apiPayload.BaseException;
 import rabbit.umc.com.config.apiPayload.BaseResponseStatus;
 import rabbit.umc.com.demo.mission.Mission;
-import rabbit.umc.com.demo.mission.MissionUsers;
 import rabbit.umc.com.demo.mission.repository.MissionRepository;
 import rabbit.umc.com.demo.mission.repository.MissionUsersRepository;
+import rabbit.umc.com.demo.mission.service.MissionProgressRecorder;
 import rabbit.umc.com.demo.schedule.domain.MissionSchedule;
 import rabbit.umc.com.demo.schedule.domain.Schedule;
 import rabbit.umc.com.demo.schedule.dto.*;
@@ -16,11 +18,11 @@ import rabbit.umc.com.demo.schedule.repository.MissionScheduleRepository;
 import rabbit.umc.com.demo.schedule.repository.ScheduleRepository;
 import rabbit.umc.com.demo.user.Domain.User;
 import rabbit.umc.com.demo.user.repository.UserRepository;
+import rabbit.umc.com.utils.CursorUtil;
 
 import java.sql.Timestamp;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -32,38 +34,49 @@ import static rabbit.umc.com.demo.base.Status.ACTIVE;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ScheduleServiceImpl implements ScheduleService {
+    private static final int HOME_PAGING_SIZE = 20;
 
     private final ScheduleRepository scheduleRepository;
     private final MissionRepository missionRepository;
     private final MissionScheduleRepository missionScheduleRepository;
     private final UserRepository userRepository;
     private final MissionUsersRepository missionUserRepository;
+    private final MissionProgressRecorder missionProgressRecorder;
+    private final MonthlyScheduleCountCache monthlyScheduleCountCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 일정 홈
+     * 진행 중인 미션은 첫 페이지에서만, 일정은 오늘부터 끝나는 순으로 커서 페이징
      */
     @Override
-    public ScheduleHomeRes getHome(Long userId) {
+    public ScheduleHomeRes getHome(Long userId, String cursor) throws BaseException {
         ScheduleHomeRes scheduleHomeRes = new ScheduleHomeRes();
-        List<Schedule> scheduleList = scheduleRepository.getSchedulesByUserIdOrderByEndAt(userId);
-        scheduleHomeRes.setScheduleList(scheduleList.stream().map(ScheduleListDto::toScheduleDto).collect(Collectors.toList()));
-
-        List<MissionUsers> missionUsersList = missionUserRepository.getMissionUsersByUserId(userId);
-        List<Mission> missionList = new ArrayList<>();
         LocalDateTime currentDateTime = LocalDateTime.now();
 
-        // 미션 유저 테이블의 미션 번호로 종료되지 않은 미션 찾기
-        for (MissionUsers mu : missionUsersList) {
-            Mission mission = missionRepository.findByIdAndEndAtIsAfterAndStatusAndIsOpenOrderByEndAt(mu.getMission().getId(), currentDateTime, ACTIVE, 0);
-            if (mission != null)
-                missionList.add(mission);
+        LocalDateTime endAt;
+        Long scheduleId;
+        // 빈 cursor 도 첫 페이지로 취급 (미션 목록 포함)
+        if (cursor == null || cursor.isBlank()) {
+            endAt = currentDateTime.toLocalDate().atStartOfDay();
+            scheduleId = 0L;
+            scheduleHomeRes.setMissionList(missionUserRepository.findOngoingMissionList(userId, currentDateTime, ACTIVE, 0));
+        } else {
+            CursorUtil.Cursor decoded = CursorUtil.decode(cursor);
+            endAt = decoded.getTime();
+            scheduleId = decoded.getId();
         }
 
-        if (!missionList.isEmpty()) {
-            Collections.sort(missionList, Comparator.comparing(mission ->
-                    ChronoUnit.DAYS.between(currentDateTime, mission.getStartAt())));
-            scheduleHomeRes.setMissionList(missionList.stream().map(MissionListDto::toMissionListDto).collect(Collectors.toList()));
+        // 다음 페이지 존재 여부 확인을 위해 한 개 더 조회
+        List<Schedule> scheduleList = scheduleRepository.findUpcomingSchedules(userId, endAt, scheduleId, PageRequest.of(0, HOME_PAGING_SIZE + 1));
+        boolean hasNext = scheduleList.size() > HOME_PAGING_SIZE;
+        if (hasNext) {
+            scheduleList = scheduleList.subList(0, HOME_PAGING_SIZE);
+            Schedule last = scheduleList.get(HOME_PAGING_SIZE - 1);
+            scheduleHomeRes.setNextCursor(CursorUtil.encode(last.getEndAt(), last.getId()));
         }
+        scheduleHomeRes.setScheduleList(scheduleList.stream().map(ScheduleListDto::toScheduleDto).collect(Collectors.toList()));
+        scheduleHomeRes.setHasNext(hasNext);
 
         return scheduleHomeRes;
     }
@@ -125,6 +138,7 @@ public class ScheduleServiceImpl implements ScheduleService {
             scheduleRepository.save(schedule);
             missionSchedule = new MissionSchedule(schedule,mission, ACTIVE);
             missionScheduleRepository.save(missionSchedule);
+            missionProgressRecorder.linked(mission, schedule);
         }else{
             // schedule에 내용들 저장
             scheduleRepository.save(schedule);
@@ -132,6 +146,7 @@ public class ScheduleServiceImpl implements ScheduleService {
             // missionSchedule 테이블에 일정 아이디랑 미션 아이디 저장
             missionScheduleRepository.save(missionSchedule);
         }
+        eventPublisher.publishEvent(new ScheduleChangedEvent(userId));
 
         return schedule.getId();
 
@@ -153,6 +168,7 @@ public class ScheduleServiceImpl implements ScheduleService {
             }
         }
 
+        List<MissionSchedule> linkedSchedules = missionScheduleRepository.findLinkedByScheduleIds(scheduleIds);
         findSchedules.forEach(
                 schedule ->
                 {
@@ -160,6 +176,8 @@ public class ScheduleServiceImpl implements ScheduleService {
                     scheduleRepository.deleteById(schedule.getId());
                 }
         );
+        missionProgressRecorder.unlinked(linkedSchedules);
+        eventPublisher.publishEvent(new ScheduleChangedEvent(userId));
     }
 
 
@@ -193,28 +211,27 @@ public class ScheduleServiceImpl implements ScheduleService {
 
 
         MissionSchedule missionSchedule = missionScheduleRepository.findMissionScheduleByScheduleId(scheduleId);
+        Mission linkedMission = missionSchedule.getMission();
         if(patchScheduleReq.getMissionId() != null){
             Mission mission = missionRepository.findById(patchScheduleReq.getMissionId()).orElseThrow(() -> new BaseException(FAILED_TO_MISSION));
             missionSchedule.updateMission(mission);
+            if (linkedMission != null && !linkedMission.getId().equals(mission.getId())) {
+                missionProgressRecorder.unlinked(linkedMission, schedule);
+            }
+            missionProgressRecorder.linked(mission, schedule);
         }else {
             missionSchedule.deleteMissionSchedule(missionSchedule.getMission(),schedule);
+            missionProgressRecorder.unlinked(linkedMission, schedule);
         }
         missionScheduleRepository.save(missionSchedule);
         scheduleRepository.save(schedule);
+        eventPublisher.publishEvent(new ScheduleChangedEvent(userId));
     }
 
     @Override
     public DayRes getScheduleWhenMonth(YearMonth yearMonth, long userId) throws BaseException {
         DayRes results = new DayRes();
-        List<Schedule> scheduleList = scheduleRepository.findSchedulesByMonthOrderByEndAt(yearMonth.getMonthValue(),userId,yearMonth.getYear());
-
-        // 스케쥴 날짜 가져온거에서 각각 몇 개 잇는지
-        scheduleList.forEach(s -> {
-            LocalDate localDate = s.getEndAt().toLocalDate();
-            Date endDate = Date.from(localDate.atStartOfDay(ZoneId.systemDefault()).toInstant());
-            Integer cnt = scheduleRepository.countByEndAtAndUserId(endDate, userId);
-            results.setSchedulesOfDay(s.getEndAt().getDayOfMonth(),cnt);
-        });
+        monthlyScheduleCountCache.get(userId, yearMonth).forEach(results::setSchedulesOfDay);
 
         if(results.getSchedulesOfDay().isEmpty())
                 throw  new BaseException(EMPTY_SCHEDULE);
@@ -0,0 +1,17 @@
+package rabbit.umc.com.demo.user.Dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UserArticleCursorResDto {
+
+    private List<UserArticleListResDto> articleList;
+
+    // 다음 페이지 커서 (마지막 페이지면 null)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+}
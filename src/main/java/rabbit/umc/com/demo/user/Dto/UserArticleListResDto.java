@@ -27,8 +27,8 @@ public class UserArticleListResDto {
                 article.getId(),
                 article.getTitle(),
                 uploadTime,
-                article.getLikeArticles().size(),
-                article.getComments().size());
+                article.getLikeCount(),
+                article.getCommentCount());
     }
 
 
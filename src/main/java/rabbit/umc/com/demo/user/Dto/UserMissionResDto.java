@@ -42,8 +42,8 @@ public class UserMissionResDto {
                 endAt,
                 mission.getCategory().getId(),
                 mission.getCategory().getImage(),
-                mission.getMissionUsers().size(),
-                mission.getMissionUserSuccessList().size()
+                mission.getChallengerCnt(),
+                mission.getSuccessCnt()
         );
     }
 }
@@ -351,6 +351,33 @@ public class UserController {
         }
     }
 
+    /**
+     * 유저가 댓글단 글 커서 페이징 조회
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @return
+     */
+    @GetMapping("/commented-articles/cursor")
+    @Operation(summary = "유저가 댓글단 글 커서 페이징 조회 API")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200", description = "OK, 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "JWT4001", description = "JWT 토큰을 주세요!", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "JWT4002", description = "JWT 토큰 만료", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON406", description = "잘못된 커서 값", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+    })
+    @Parameters({
+            @Parameter(name = "cursor", description = "이전 페이지 응답의 nextCursor 입니다. 첫 페이지는 생략합니다.", in = ParameterIn.QUERY, required = false)
+    })
+    public BaseResponse<UserArticleCursorResDto> getCommentedArticlesByCursor(@RequestParam(required = false, name = "cursor") String cursor) {
+        try {
+            Long jwtUserId = (long) jwtService.getUserIdx();
+            UserArticleCursorResDto userArticleCursorResDto = userService.getCommentedArticlesByCursor(cursor, jwtUserId);
+            return new BaseResponse<>(userArticleCursorResDto);
+        } catch (BaseException exception) {
+            return new BaseResponse<>(exception.getStatus());
+        }
+    }
+
     /**
      * access token 재발급
      *
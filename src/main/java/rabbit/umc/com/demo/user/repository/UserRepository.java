@@ -29,16 +29,6 @@ public interface UserRepository extends JpaRepository<User, Long> {
             "ORDER BY a.createdAt DESC")
     List<Article> findArticlesByUserIdOrderByCreatedAtDesc(@Param("userId") Long userId, PageRequest pageRequest);
 
-    //유저가 댓글을 남긴 글 조회
-    @Query("SELECT a " +
-            "FROM Article a " +
-            "JOIN a.comments c " +
-            "WHERE c.user.id = :userId " +
-            "AND a.status = 'ACTIVE' " +
-            "GROUP BY a " +
-            "ORDER BY max(c.createdAt) DESC")
-    List<Article> findCommentedArticlesByUserId(@Param("userId") Long userId, PageRequest pageRequest);
-
 
 
     @Query("SELECT CASE WHEN u.jwtRefreshToken = :token " +
@@ -2,6 +2,7 @@ package rabbit.umc.com.demo.user.service;
 
 import static rabbit.umc.com.demo.user.Domain.UserPermission.HOST;
 
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +19,14 @@ public class UserQueryService {
         return userRepository.getReferenceById(userId);
     }
 
+    public boolean existsUser(Long userId){
+        return userRepository.existsById(userId);
+    }
+
+    public List<User> getUsers(List<Long> userIds){
+        return userRepository.findAllById(userIds);
+    }
+
     public boolean isHostUser(Long userId){
         User user = userRepository.getReferenceById(userId);
         return user.getUserPermission() == HOST;
@@ -0,0 +1,24 @@
+package rabbit.umc.com.migration;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * ddl-auto(update) 로는 할 수 없는 스키마 변경 한 단계 (데이터 보정 후 제약 추가, 인덱스 제거 등)
+ * version 순서로 한 번만 실행되고, 실패하면 기록하지 않아 다음 기동 때 다시 실행된다.
+ * 중간에 실패해도 다시 실행할 수 있도록 각 단계는 이미 반영된 부분을 건너뛰게 작성한다.
+ */
+public interface SchemaMigration {
+
+    int version();
+
+    String description();
+
+    // DDL 은 자동 커밋되므로 트랜잭션 없이 실행
+    void migrate(JdbcTemplate jdbcTemplate);
+
+    static boolean indexExists(JdbcTemplate jdbcTemplate, String tableName, String indexName) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?", Integer.class, tableName, indexName);
+        return count != null && count > 0;
+    }
+}
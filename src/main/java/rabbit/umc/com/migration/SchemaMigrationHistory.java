@@ -0,0 +1,28 @@
+package rabbit.umc.com.migration;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 적용된 SchemaMigration 기록 (SchemaMigrationRunner 가 JDBC 로만 읽고 씀, 엔티티는 테이블 생성용)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "schema_migration")
+public class SchemaMigrationHistory {
+    @Id
+    @Column(name = "version")
+    private int version;
+
+    @Column(name = "description", nullable = false)
+    private String description;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
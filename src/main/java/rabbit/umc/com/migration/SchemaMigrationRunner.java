@@ -0,0 +1,64 @@
+package rabbit.umc.com.migration;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import rabbit.umc.com.scheduling.JdbcLeaseLock;
+
+/**
+ * 서버 기동 중(ddl-auto 가 테이블을 맞춘 직후, 요청을 받기 전) 아직 적용되지 않은 SchemaMigration 을 순서대로 실행
+ * 여러 서버가 동시에 떠도 lease 를 얻은 한 곳에서만 실행한다.
+ * 한 단계가 실패하면 이후 단계는 실행하지 않고 기동은 계속한다. (다음 기동 때 실패한 단계부터 다시 실행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DependsOn("entityManagerFactory")
+public class SchemaMigrationRunner {
+    private static final String APPLIED_SQL = "SELECT version FROM schema_migration";
+    private static final String RECORD_SQL =
+            "INSERT INTO schema_migration (version, description, applied_at) VALUES (?, ?, NOW())";
+
+    private final List<SchemaMigration> migrations;
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcLeaseLock leaseLock;
+
+    @PostConstruct
+    public void migrate() {
+        leaseLock.runExclusively("schema-migration", Duration.ofMinutes(30), Duration.ZERO, lease -> {
+            Set<Integer> applied = new HashSet<>(jdbcTemplate.queryForList(APPLIED_SQL, Integer.class));
+            List<SchemaMigration> pending = migrations.stream()
+                    .filter(migration -> !applied.contains(migration.version()))
+                    .sorted(Comparator.comparingInt(SchemaMigration::version))
+                    .collect(Collectors.toList());
+            for (SchemaMigration migration : pending) {
+                if (!apply(migration)) {
+                    return;
+                }
+            }
+        });
+    }
+
+    private boolean apply(SchemaMigration migration) {
+        long startedAt = System.currentTimeMillis();
+        try {
+            migration.migrate(jdbcTemplate);
+            jdbcTemplate.update(RECORD_SQL, migration.version(), migration.description());
+            log.info("schema migration {} applied in {} ms: {}", migration.version(),
+                    System.currentTimeMillis() - startedAt, migration.description());
+            return true;
+        } catch (RuntimeException e) {
+            log.error("schema migration {} failed, later migrations are skipped: {}", migration.version(), migration.description(), e);
+            return false;
+        }
+    }
+}
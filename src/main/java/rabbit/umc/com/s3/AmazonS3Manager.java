@@ -1,9 +1,16 @@
 package rabbit.umc.com.s3;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest.KeyVersion;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException.DeleteError;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -40,9 +47,29 @@ public class AmazonS3Manager {
     }
 
     public void delete(String s3Image) {
-        String deletePath = s3Image.substring(S3_KEY.length());
-        amazonS3.deleteObject(amazonConfig.getBucket(), deletePath);
+        amazonS3.deleteObject(amazonConfig.getBucket(), toKeyName(s3Image));
+    }
+
+    /**
+     * 여러 객체 한번에 삭제 (요청당 최대 1000개)
+     * @return 삭제 실패한 key
+     */
+    public List<String> deleteAll(List<String> keyNames) {
+        DeleteObjectsRequest request = new DeleteObjectsRequest(amazonConfig.getBucket())
+                .withKeys(keyNames.stream().map(KeyVersion::new).collect(Collectors.toList()))
+                .withQuiet(true);
+        try {
+            amazonS3.deleteObjects(request);
+            return new ArrayList<>();
+        } catch (MultiObjectDeleteException e) {
+            return e.getErrors().stream()
+                    .map(DeleteError::getKey)
+                    .collect(Collectors.toList());
+        }
+    }
 
+    public String toKeyName(String s3Image) {
+        return s3Image.substring(S3_KEY.length());
     }
 
 }
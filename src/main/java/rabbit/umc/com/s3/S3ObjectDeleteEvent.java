@@ -0,0 +1,26 @@
+package rabbit.umc.com.s3;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * DB 에서 삭제된 이미지의 S3 파일 삭제 요청 (커밋 후 S3ObjectDeleter 가 처리)
+ * onRollback 이면 반대로 트랜잭션이 롤백됐을 때만 삭제한다. (업로드 후 DB 저장이 실패한 파일)
+ */
+@Getter
+@AllArgsConstructor
+public class S3ObjectDeleteEvent {
+    // Image.filePath (S3 URL)
+    private List<String> filePaths;
+    private boolean onRollback;
+
+    public S3ObjectDeleteEvent(List<String> filePaths) {
+        this(filePaths, false);
+    }
+
+    // 같은 트랜잭션에서 DB 에 저장하지 못하면 지울 업로드 파일
+    public static S3ObjectDeleteEvent ifRolledBack(String filePath) {
+        return new S3ObjectDeleteEvent(List.of(filePath), true);
+    }
+}
@@ -0,0 +1,65 @@
+package rabbit.umc.com.s3;
+
+import com.amazonaws.AmazonClientException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 삭제할 S3 key 를 모아 백그라운드에서 multi-object delete 로 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3ObjectDeleter {
+    // DeleteObjects 요청 한번에 보낼 수 있는 최대 key 수
+    private static final int BATCH_SIZE = 1000;
+
+    private final AmazonS3Manager s3Manager;
+    private final LinkedBlockingQueue<String> keyNames = new LinkedBlockingQueue<>();
+
+    @TransactionalEventListener(fallbackExecution = true, condition = "!#event.onRollback")
+    public void enqueue(S3ObjectDeleteEvent event) {
+        for (String filePath : event.getFilePaths()) {
+            keyNames.add(s3Manager.toKeyName(filePath));
+        }
+    }
+
+    // 업로드 후 DB 저장이 롤백되면 아무도 참조하지 않는 파일이 되므로 삭제
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK, condition = "#event.onRollback")
+    public void enqueueOnRollback(S3ObjectDeleteEvent event) {
+        enqueue(event);
+    }
+
+    @Scheduled(fixedDelayString = "${s3.delete.flush-delay-ms:5000}")
+    public synchronized void flush() {
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        while (keyNames.drainTo(batch, BATCH_SIZE) > 0) {
+            try {
+                List<String> failed = s3Manager.deleteAll(batch);
+                if (!failed.isEmpty()) {
+                    log.warn("S3 객체 일부 삭제 실패, 다음 주기에 재시도합니다. keys: {}", failed);
+                    keyNames.addAll(failed);
+                    return;
+                }
+            } catch (AmazonClientException e) {
+                log.error("S3 객체 삭제 요청 실패, 다음 주기에 재시도합니다. size: {}", batch.size(), e);
+                keyNames.addAll(batch);
+                return;
+            }
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,144 @@
+package rabbit.umc.com.scheduling;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 여러 서버 중 한 곳에서만 스케줄 작업을 실행하기 위한 DB lease
+ * scheduled_lock row 의 lock_until 이 지났을 때만 UPDATE 로 가져가며, 가져갈 때마다 fencing_token 이 증가한다.
+ * 호출한 쪽 트랜잭션과 무관하게 항상 별도 트랜잭션으로 바로 커밋한다.
+ * 만료 시간 계산과 비교는 모두 DB 시계(CURRENT_TIMESTAMP)로 해서, 서버 간 시계 차이의 영향을 받지 않는다.
+ */
+@Slf4j
+@Component
+public class JdbcLeaseLock {
+    private static final String DB_NOW = "CURRENT_TIMESTAMP(3)";
+    private static final String DB_NOW_PLUS = "TIMESTAMPADD(MICROSECOND, ?, " + DB_NOW + ")";
+
+    private static final String ACQUIRE_SQL =
+            "UPDATE scheduled_lock SET locked_by = ?, locked_at = " + DB_NOW + ", lock_until = " + DB_NOW_PLUS + ", " +
+            "fencing_token = fencing_token + 1 WHERE lock_name = ? AND lock_until <= " + DB_NOW;
+    private static final String INSERT_SQL =
+            "INSERT INTO scheduled_lock (lock_name, locked_by, locked_at, lock_until, fencing_token) " +
+            "VALUES (?, ?, " + DB_NOW + ", " + DB_NOW_PLUS + ", 1)";
+    private static final String LEASE_SQL =
+            "SELECT fencing_token, locked_at FROM scheduled_lock WHERE lock_name = ?";
+    private static final String RENEW_SQL =
+            "UPDATE scheduled_lock SET lock_until = " + DB_NOW_PLUS + " " +
+            "WHERE lock_name = ? AND fencing_token = ? AND lock_until > " + DB_NOW;
+    // 얻은 시각 + atLeast 와 지금 중 늦은 시각까지 유지
+    private static final String RELEASE_SQL =
+            "UPDATE scheduled_lock SET lock_until = GREATEST(TIMESTAMPADD(MICROSECOND, ?, locked_at), " + DB_NOW + ") " +
+            "WHERE lock_name = ? AND fencing_token = ?";
+    private static final String HELD_SQL =
+            "SELECT COUNT(*) FROM scheduled_lock WHERE lock_name = ? AND fencing_token = ? AND lock_until > " + DB_NOW;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String owner;
+
+    @Autowired
+    public JdbcLeaseLock(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this(jdbcTemplate, transactionManager, hostName() + ":" + UUID.randomUUID());
+    }
+
+    public JdbcLeaseLock(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, String owner) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.owner = owner;
+    }
+
+    /**
+     * lease 를 얻으면 task 실행 후 반납, 다른 서버가 가지고 있으면 실행하지 않음
+     * @param atMost 서버가 죽어도 이 시간이 지나면 다른 서버가 가져갈 수 있음
+     * @param atLeast 작업이 빨리 끝나도 이 시간까지는 유지 (같은 cron 이 조금 늦게 뜬 서버의 중복 실행 방지)
+     * @return 실행했는지 여부
+     */
+    public boolean runExclusively(String lockName, Duration atMost, Duration atLeast, Consumer<Lease> task) {
+        Optional<Lease> lease = tryAcquire(lockName, atMost);
+        if (lease.isEmpty()) {
+            log.debug("skip {}: lease held by another node", lockName);
+            return false;
+        }
+        try {
+            task.accept(lease.get());
+        } finally {
+            release(lease.get(), atLeast);
+        }
+        return true;
+    }
+
+    public Optional<Lease> tryAcquire(String lockName, Duration atMost) {
+        Lease lease = transactionTemplate.execute(status -> {
+            int updated = jdbcTemplate.update(ACQUIRE_SQL, owner, micros(atMost), lockName);
+            return updated == 1 ? findLease(lockName) : null;
+        });
+        if (lease == null) {
+            lease = insertFirstLease(lockName, atMost);
+        }
+        return Optional.ofNullable(lease);
+    }
+
+    /**
+     * 아직 lease 를 가지고 있으면 만료 시간을 DB 기준 now + atMost 로 연장
+     */
+    public boolean renew(Lease lease, Duration atMost) {
+        Integer updated = transactionTemplate.execute(status -> jdbcTemplate.update(RENEW_SQL,
+                micros(atMost), lease.getLockName(), lease.getToken()));
+        return updated != null && updated == 1;
+    }
+
+    public boolean isHeld(Lease lease) {
+        Integer count = transactionTemplate.execute(status -> jdbcTemplate.queryForObject(HELD_SQL, Integer.class,
+                lease.getLockName(), lease.getToken()));
+        return count != null && count > 0;
+    }
+
+    public void release(Lease lease, Duration atLeast) {
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.update(RELEASE_SQL, micros(atLeast), lease.getLockName(), lease.getToken()));
+    }
+
+    // 처음 쓰는 lockName 이면 row 를 만들면서 lease 획득, 동시에 만든 서버가 있으면 실패
+    private Lease insertFirstLease(String lockName, Duration atMost) {
+        try {
+            return transactionTemplate.execute(status -> {
+                jdbcTemplate.update(INSERT_SQL, lockName, owner, micros(atMost));
+                return findLease(lockName);
+            });
+        } catch (DuplicateKeyException e) {
+            return null;
+        }
+    }
+
+    // 같은 트랜잭션에서 방금 쓴 token 과 DB 기준 획득 시각을 읽음
+    private Lease findLease(String lockName) {
+        return jdbcTemplate.queryForObject(LEASE_SQL, (rs, rowNum) -> new Lease(lockName, owner,
+                rs.getLong("fencing_token"), rs.getTimestamp("locked_at").toLocalDateTime()), lockName);
+    }
+
+    private static long micros(Duration duration) {
+        return duration.toNanos() / 1_000;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package rabbit.umc.com.scheduling;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * JdbcLeaseLock 으로 얻은 작업 실행 권한
+ * token 은 얻을 때마다 커지므로, 작업 결과에 함께 저장하면 만료된 서버의 늦은 쓰기를 걸러낼 수 있다.
+ */
+@Getter
+@AllArgsConstructor
+public class Lease {
+    private final String lockName;
+    private final String owner;
+    private final long token;
+    private final LocalDateTime acquiredAt;
+}
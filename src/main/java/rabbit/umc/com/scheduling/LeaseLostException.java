@@ -0,0 +1,10 @@
+package rabbit.umc.com.scheduling;
+
+/**
+ * lease 가 만료되어 다른 서버가 작업을 가져감
+ */
+public class LeaseLostException extends RuntimeException {
+    public LeaseLostException(Lease lease) {
+        super("lease lost: " + lease.getLockName() + " token " + lease.getToken());
+    }
+}
@@ -0,0 +1,37 @@
+package rabbit.umc.com.scheduling;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스케줄 작업 lease 테이블 (JdbcLeaseLock 이 JDBC 로만 읽고 씀, 엔티티는 테이블 생성용)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "scheduled_lock")
+public class ScheduledLock {
+    @Id
+    @Column(name = "lock_name", length = 64)
+    private String lockName;
+
+    // lease 를 가진 서버 (호스트명:uuid)
+    @Column(name = "locked_by", nullable = false)
+    private String lockedBy;
+
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt;
+
+    // 이 시간이 지나면 다른 서버가 가져갈 수 있음
+    @Column(name = "lock_until", nullable = false)
+    private LocalDateTime lockUntil;
+
+    // lease 를 새로 얻을 때마다 1 씩 증가
+    @Column(name = "fencing_token", nullable = false)
+    private long fencingToken;
+}
@@ -0,0 +1,63 @@
+package rabbit.umc.com.utils;
+
+import static rabbit.umc.com.config.apiPayload.BaseResponseStatus.INVALID_CURSOR;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import rabbit.umc.com.config.apiPayload.BaseException;
+
+/**
+ * (시간, id) 커서를 클라이언트에 넘길 불투명한 문자열로 변환
+ */
+public class CursorUtil {
+    private static final String DELIMITER = "_";
+
+    public static String encode(LocalDateTime time, Long id) {
+        String raw = time + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String cursor) throws BaseException {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            return new Cursor(LocalDateTime.parse(raw.substring(0, idx)), Long.valueOf(raw.substring(idx + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BaseException(INVALID_CURSOR);
+        }
+    }
+
+    public static String encodeScore(double score, Long id) {
+        String raw = score + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 검색 결과처럼 (점수, id) 순으로 정렬된 목록의 커서
+    public static ScoreCursor decodeScore(String cursor) throws BaseException {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            return new ScoreCursor(Double.parseDouble(raw.substring(0, idx)), Long.valueOf(raw.substring(idx + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BaseException(INVALID_CURSOR);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Cursor {
+        private LocalDateTime time;
+        private Long id;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ScoreCursor {
+        private double score;
+        private Long id;
+    }
+}
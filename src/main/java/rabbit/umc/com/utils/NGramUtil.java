@@ -0,0 +1,69 @@
+package rabbit.umc.com.utils;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 형태소 분석기 없이 한글 검색을 하기 위한 글자 단위 n-gram 분리
+ * 문서는 1-gram ~ 3-gram 으로, 검색어는 3-gram(짧으면 단어 그대로)으로 자른다.
+ * 한 글자 검색어도 긴 단어 안의 글자와 매칭되도록 문서에 1-gram 까지 색인한다.
+ */
+public class NGramUtil {
+
+    /**
+     * 문서 색인용 n-gram 빈도를 weight 만큼 더해서 terms 에 누적
+     */
+    public static void addDocumentGrams(String text, int weight, Map<String, Integer> terms) {
+        for (String word : words(text)) {
+            for (int n = 1; n <= 3; n++) {
+                for (int i = 0; i + n <= word.length(); i++) {
+                    terms.merge(word.substring(i, i + n), weight, Integer::sum);
+                }
+            }
+        }
+    }
+
+    /**
+     * 검색어 n-gram (중복 제거)
+     */
+    public static Set<String> queryGrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            if (word.length() <= 3) {
+                grams.add(word);
+                continue;
+            }
+            for (int i = 0; i + 3 <= word.length(); i++) {
+                grams.add(word.substring(i, i + 3));
+            }
+        }
+        return grams;
+    }
+
+    // 공백, 문장부호 기준으로 분리 후 소문자 정규화
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase();
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                word.append(c);
+            } else if (word.length() > 0) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        if (word.length() > 0) {
+            words.add(word.toString());
+        }
+        return words;
+    }
+}
@@ -0,0 +1,99 @@
+package rabbit.umc.com.demo.mainmission.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 누적된 좋아요 점수가 flush 로 점수 이력에 기록되는지 H2 로 확인
+ */
+class MainMissionScoreWriterTest {
+    private static final String CREATE_LEDGER_SQL =
+            "CREATE TABLE main_mission_score_ledger (main_mission_score_ledger_id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+            "main_mission_id BIGINT NOT NULL, user_id BIGINT NOT NULL, delta INT NOT NULL, reason VARCHAR(32) NOT NULL, " +
+            "source_id BIGINT, created_at TIMESTAMP, updated_at TIMESTAMP)";
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private MainMissionScoreWriter writer;
+    private final List<Object> published = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute(CREATE_LEDGER_SQL);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(database));
+        // 주기 실행은 하지 않고 flush 를 직접 호출
+        writer = new MainMissionScoreWriter(jdbcTemplate, transactionTemplate, published::add,
+                new ConcurrentTaskScheduler(), 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void flush_하면_누적된_점수가_이력에_기록되고_기록된_id_로_이벤트가_발행된다() {
+        writer.onProofLikeScore(new ProofLikeScoreEvent(1L, 7L, 3L, 1));
+        writer.onProofLikeScore(new ProofLikeScoreEvent(1L, 7L, 3L, 1));
+        writer.onProofLikeScore(new ProofLikeScoreEvent(1L, 8L, 4L, 1));
+
+        writer.flush();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT SUM(delta) FROM main_mission_score_ledger WHERE user_id = 7", Integer.class)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT SUM(delta) FROM main_mission_score_ledger WHERE user_id = 8", Integer.class)).isEqualTo(1);
+
+        List<Long> ledgerIds = jdbcTemplate.queryForList(
+                "SELECT main_mission_score_ledger_id FROM main_mission_score_ledger", Long.class);
+        List<Long> publishedIds = new ArrayList<>();
+        published.stream()
+                .filter(MainMissionScoreChangedEvent.class::isInstance)
+                .map(MainMissionScoreChangedEvent.class::cast)
+                .forEach(event -> publishedIds.add(event.getLedgerId()));
+        assertThat(publishedIds).containsExactlyInAnyOrderElementsOf(ledgerIds);
+    }
+
+    @Test
+    void 기록에_실패한_점수는_다음_flush_에_기록된다() {
+        jdbcTemplate.execute("DROP TABLE main_mission_score_ledger");
+        writer.onProofLikeScore(new ProofLikeScoreEvent(1L, 7L, 3L, 1));
+
+        writer.flush();
+        assertThat(published).isEmpty();
+
+        jdbcTemplate.execute(CREATE_LEDGER_SQL);
+        writer.onProofLikeScore(new ProofLikeScoreEvent(1L, 7L, 3L, 1));
+        writer.flush();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT SUM(delta) FROM main_mission_score_ledger WHERE user_id = 7", Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    void flush_후에는_다시_기록하지_않는다() {
+        writer.onProofLikeScore(new ProofLikeScoreEvent(1L, 7L, 3L, 1));
+        writer.flush();
+        writer.flush();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT SUM(delta) FROM main_mission_score_ledger", Integer.class)).isEqualTo(1);
+    }
+}
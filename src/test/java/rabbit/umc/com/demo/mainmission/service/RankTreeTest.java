@@ -0,0 +1,145 @@
+package rabbit.umc.com.demo.mainmission.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import rabbit.umc.com.demo.mainmission.service.RankTree.RankEntry;
+
+class RankTreeTest {
+
+    @Test
+    void 점수_내림차순으로_순위가_매겨진다() {
+        RankTree tree = new RankTree();
+        tree.setScore(1L, 10);
+        tree.setScore(2L, 30);
+        tree.setScore(3L, 20);
+
+        assertThat(tree.rankOf(2L)).isEqualTo(1);
+        assertThat(tree.rankOf(3L)).isEqualTo(2);
+        assertThat(tree.rankOf(1L)).isEqualTo(3);
+        assertThat(tree.size()).isEqualTo(3);
+    }
+
+    @Test
+    void 참여하지_않은_유저의_순위는_0이다() {
+        RankTree tree = new RankTree();
+        tree.setScore(1L, 10);
+
+        assertThat(tree.rankOf(99L)).isZero();
+        assertThat(tree.around(99L, 2)).isEmpty();
+    }
+
+    @Test
+    void 동점이면_userId_가_작은_유저가_앞선다() {
+        RankTree tree = new RankTree();
+        tree.setScore(5L, 7);
+        tree.setScore(3L, 7);
+        tree.setScore(4L, 7);
+
+        assertThat(userIds(tree.top(3))).containsExactly(3L, 4L, 5L);
+        assertThat(tree.rankOf(4L)).isEqualTo(2);
+    }
+
+    @Test
+    void 점수가_바뀌면_순위도_바뀐다() {
+        RankTree tree = new RankTree();
+        tree.setScore(1L, 10);
+        tree.setScore(2L, 20);
+
+        tree.addScore(1L, 15);
+        assertThat(tree.rankOf(1L)).isEqualTo(1);
+        assertThat(tree.top(1).get(0).getScore()).isEqualTo(25);
+
+        tree.setScore(1L, 0);
+        assertThat(tree.rankOf(1L)).isEqualTo(2);
+        assertThat(tree.size()).isEqualTo(2);
+    }
+
+    @Test
+    void 처음_점수가_오른_유저는_0점에서_더해진다() {
+        RankTree tree = new RankTree();
+        tree.addScore(1L, 3);
+        tree.addScore(1L, -1);
+
+        assertThat(tree.top(1)).singleElement()
+                .satisfies(entry -> {
+                    assertThat(entry.getUserId()).isEqualTo(1L);
+                    assertThat(entry.getScore()).isEqualTo(2);
+                    assertThat(entry.getRank()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    void range_는_순위_범위를_벗어나면_있는_만큼만_돌려준다() {
+        RankTree tree = new RankTree();
+        for (long userId = 1; userId <= 5; userId++) {
+            tree.setScore(userId, (int) userId * 10);
+        }
+
+        assertThat(ranks(tree.range(4, 10))).containsExactly(4, 5);
+        assertThat(ranks(tree.range(0, 2))).containsExactly(1, 2);
+        assertThat(tree.range(6, 3)).isEmpty();
+        assertThat(tree.top(10)).hasSize(5);
+    }
+
+    @Test
+    void around_는_앞뒤_distance_명씩_돌려주고_양끝에서는_잘린다() {
+        RankTree tree = new RankTree();
+        for (long userId = 1; userId <= 5; userId++) {
+            tree.setScore(userId, (int) userId * 10);
+        }
+
+        // 순위: 5, 4, 3, 2, 1
+        assertThat(userIds(tree.around(3L, 1))).containsExactly(4L, 3L, 2L);
+        assertThat(userIds(tree.around(5L, 2))).containsExactly(5L, 4L, 3L);
+        assertThat(userIds(tree.around(1L, 2))).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void 무작위_갱신_후에도_정렬_결과와_같다() {
+        RankTree tree = new RankTree();
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 5_000; i++) {
+            long userId = random.nextInt(300);
+            int delta = random.nextInt(11) - 5;
+            if (random.nextInt(10) == 0) {
+                tree.setScore(userId, delta);
+                expected.put(userId, delta);
+            } else {
+                tree.addScore(userId, delta);
+                expected.merge(userId, delta, Integer::sum);
+            }
+        }
+
+        List<Map.Entry<Long, Integer>> sorted = new ArrayList<>(expected.entrySet());
+        sorted.sort(Comparator.<Map.Entry<Long, Integer>>comparingInt(Map.Entry::getValue).reversed()
+                .thenComparing(Map.Entry::getKey));
+
+        List<RankEntry> all = tree.top(expected.size() + 1);
+        assertThat(all).hasSize(sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            assertThat(all.get(i).getUserId()).isEqualTo(sorted.get(i).getKey());
+            assertThat(all.get(i).getScore()).isEqualTo(sorted.get(i).getValue());
+            assertThat(tree.rankOf(sorted.get(i).getKey())).isEqualTo(i + 1);
+        }
+    }
+
+    private static List<Long> userIds(List<RankEntry> entries) {
+        List<Long> userIds = new ArrayList<>();
+        entries.forEach(entry -> userIds.add(entry.getUserId()));
+        return userIds;
+    }
+
+    private static List<Integer> ranks(List<RankEntry> entries) {
+        List<Integer> ranks = new ArrayList<>();
+        entries.forEach(entry -> ranks.add(entry.getRank()));
+        return ranks;
+    }
+}
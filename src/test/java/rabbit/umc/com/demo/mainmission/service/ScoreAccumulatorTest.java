@@ -0,0 +1,75 @@
+package rabbit.umc.com.demo.mainmission.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import rabbit.umc.com.demo.mainmission.service.ScoreAccumulator.ScoreKey;
+
+class ScoreAccumulatorTest {
+
+    @Test
+    void 동시에_좋아요가_몰려도_점수가_정확히_합산된다() throws InterruptedException {
+        ScoreAccumulator accumulator = new ScoreAccumulator();
+        ScoreKey key = new ScoreKey(1L, 7L, 3L);
+        int threads = 16;
+        int likesPerThread = 5_000;
+
+        AtomicLong flushed = new AtomicLong();
+        AtomicBoolean running = new AtomicBoolean(true);
+        // 좋아요가 들어오는 동안 계속 drain (스케줄러 역할)
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                flushed.addAndGet(accumulator.drain().getOrDefault(key, 0));
+            }
+        });
+        flusher.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < likesPerThread; i++) {
+                    accumulator.add(key.getMainMissionId(), key.getUserId(), key.getSourceId(), 1);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        running.set(false);
+        flusher.join();
+        flushed.addAndGet(accumulator.drain().getOrDefault(key, 0));
+
+        assertThat(flushed.get()).isEqualTo((long) threads * likesPerThread);
+    }
+
+    @Test
+    void 좋아요와_취소가_상쇄되면_반영할_항목이_없다() {
+        ScoreAccumulator accumulator = new ScoreAccumulator();
+        accumulator.add(1L, 7L, 3L, 1);
+        accumulator.add(1L, 7L, 3L, -1);
+
+        assertThat(accumulator.drain()).isEmpty();
+    }
+
+    @Test
+    void 반영에_실패한_점수는_다음_drain_에_포함된다() {
+        ScoreAccumulator accumulator = new ScoreAccumulator();
+        accumulator.add(1L, 7L, 3L, 3);
+        Map<ScoreKey, Integer> failed = accumulator.drain();
+        accumulator.add(1L, 7L, 3L, 2);
+
+        accumulator.restore(failed);
+
+        assertThat(accumulator.drain()).containsEntry(new ScoreKey(1L, 7L, 3L), 5);
+    }
+}
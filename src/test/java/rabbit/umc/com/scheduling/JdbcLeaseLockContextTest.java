@@ -0,0 +1,112 @@
+package rabbit.umc.com.scheduling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 같은 DB 를 보는 두 애플리케이션 컨텍스트(서버 두 대)가 각자 만든 JdbcLeaseLock 으로 경쟁
+ * 컨텍스트마다 DataSource, 트랜잭션 매니저, owner 가 따로 있어 실제 배포와 같은 조건이다.
+ */
+class JdbcLeaseLockContextTest {
+    private static final String URL_PROPERTY = "lease-test.url";
+
+    private AnnotationConfigApplicationContext nodeA;
+    private AnnotationConfigApplicationContext nodeB;
+
+    @BeforeEach
+    void setUp() {
+        // DB_CLOSE_DELAY=-1: 두 컨텍스트가 같은 in-memory DB 를 공유
+        String url = "jdbc:h2:mem:lease-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        System.setProperty(URL_PROPERTY, url);
+        new JdbcTemplate(new DriverManagerDataSource(url)).execute(
+                "CREATE TABLE scheduled_lock (lock_name VARCHAR(64) PRIMARY KEY, locked_by VARCHAR(255) NOT NULL, " +
+                "locked_at TIMESTAMP(3) NOT NULL, lock_until TIMESTAMP(3) NOT NULL, fencing_token BIGINT NOT NULL)");
+        nodeA = new AnnotationConfigApplicationContext(NodeConfig.class);
+        nodeB = new AnnotationConfigApplicationContext(NodeConfig.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+        new JdbcTemplate(new DriverManagerDataSource(System.getProperty(URL_PROPERTY))).execute("SHUTDOWN");
+        System.clearProperty(URL_PROPERTY);
+    }
+
+    @Test
+    void 두_서버가_동시에_실행해도_작업은_한_번만_실행된다() throws InterruptedException {
+        List<JdbcLeaseLock> locks = List.of(nodeA.getBean(JdbcLeaseLock.class), nodeB.getBean(JdbcLeaseLock.class));
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            JdbcLeaseLock lock = locks.get(i % 2);
+            executor.submit(() -> {
+                start.await();
+                lock.runExclusively("job", Duration.ofMinutes(1), Duration.ofMinutes(1), lease -> executions.incrementAndGet());
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 한_서버의_lease_가_만료되면_다른_서버가_가져가고_이전_서버는_연장하지_못한다() throws InterruptedException {
+        JdbcLeaseLock lockA = nodeA.getBean(JdbcLeaseLock.class);
+        JdbcLeaseLock lockB = nodeB.getBean(JdbcLeaseLock.class);
+
+        Lease leaseA = lockA.tryAcquire("job", Duration.ofMillis(50)).orElseThrow();
+        assertThat(lockB.tryAcquire("job", Duration.ofMinutes(1))).isEmpty();
+        Thread.sleep(100);
+
+        Lease leaseB = lockB.tryAcquire("job", Duration.ofMinutes(1)).orElseThrow();
+        assertThat(leaseB.getOwner()).isNotEqualTo(leaseA.getOwner());
+        assertThat(leaseB.getToken()).isGreaterThan(leaseA.getToken());
+        assertThat(lockA.renew(leaseA, Duration.ofMinutes(1))).isFalse();
+        assertThat(lockB.isHeld(leaseB)).isTrue();
+    }
+
+    // 서버 한 대 분량의 빈 구성 (JdbcLeaseLock 은 운영과 같은 생성자로 owner 를 만든다)
+    @Configuration
+    @Import(JdbcLeaseLock.class)
+    static class NodeConfig {
+        @Bean
+        DataSource dataSource() {
+            return new DriverManagerDataSource(System.getProperty(URL_PROPERTY));
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            return new JdbcTemplate(dataSource);
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+    }
+}
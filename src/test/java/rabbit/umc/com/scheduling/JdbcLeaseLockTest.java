@@ -0,0 +1,101 @@
+package rabbit.umc.com.scheduling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+/**
+ * 같은 DB 를 보는 두 서버(nodeA, nodeB)를 JdbcLeaseLock 두 개로 흉내냄
+ */
+class JdbcLeaseLockTest {
+    private EmbeddedDatabase database;
+    private JdbcLeaseLock nodeA;
+    private JdbcLeaseLock nodeB;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE scheduled_lock (lock_name VARCHAR(64) PRIMARY KEY, locked_by VARCHAR(255) NOT NULL, " +
+                "locked_at TIMESTAMP NOT NULL, lock_until TIMESTAMP NOT NULL, fencing_token BIGINT NOT NULL)");
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(database);
+        nodeA = new JdbcLeaseLock(jdbcTemplate, transactionManager, "nodeA");
+        nodeB = new JdbcLeaseLock(jdbcTemplate, transactionManager, "nodeB");
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void lease_를_가진_서버가_있으면_다른_서버는_얻지_못한다() {
+        Optional<Lease> leaseA = nodeA.tryAcquire("job", Duration.ofMinutes(1));
+
+        assertThat(leaseA).isPresent();
+        assertThat(nodeB.tryAcquire("job", Duration.ofMinutes(1))).isEmpty();
+        assertThat(nodeA.isHeld(leaseA.get())).isTrue();
+    }
+
+    @Test
+    void 만료된_lease_는_다른_서버가_더_큰_token_으로_가져가고_이전_lease_는_무효가_된다() throws InterruptedException {
+        Lease leaseA = nodeA.tryAcquire("job", Duration.ofMillis(50)).orElseThrow();
+        Thread.sleep(100);
+
+        Lease leaseB = nodeB.tryAcquire("job", Duration.ofMinutes(1)).orElseThrow();
+
+        assertThat(leaseB.getToken()).isGreaterThan(leaseA.getToken());
+        assertThat(nodeA.isHeld(leaseA)).isFalse();
+        assertThat(nodeA.renew(leaseA, Duration.ofMinutes(1))).isFalse();
+        // 늦게 반납해도 nodeB 의 lease 는 그대로
+        nodeA.release(leaseA, Duration.ZERO);
+        assertThat(nodeB.isHeld(leaseB)).isTrue();
+    }
+
+    @Test
+    void 반납하면_atLeast_가_지난_뒤_다른_서버가_얻을_수_있다() throws InterruptedException {
+        Lease leaseA = nodeA.tryAcquire("job", Duration.ofMinutes(1)).orElseThrow();
+        nodeA.release(leaseA, Duration.ofMillis(100));
+
+        assertThat(nodeB.tryAcquire("job", Duration.ofMinutes(1))).isEmpty();
+        Thread.sleep(150);
+        assertThat(nodeB.tryAcquire("job", Duration.ofMinutes(1))).isPresent();
+    }
+
+    @Test
+    void 두_서버가_동시에_실행해도_작업은_한_번만_실행된다() throws InterruptedException {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            JdbcLeaseLock node = i % 2 == 0 ? nodeA : nodeB;
+            executor.submit(() -> {
+                start.await();
+                node.runExclusively("job", Duration.ofMinutes(1), Duration.ofMinutes(1), lease -> executions.incrementAndGet());
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(executions.get()).isEqualTo(1);
+    }
+}